@@ -0,0 +1,45 @@
+package com.ums.core.user_management_system.benchmark;
+
+import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.security.RoleAuthorities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a user's roles into Spring Security authorities, i.e. what
+ * CustomUserDetailsService.mapRolesToAuthorities does on every authentication.
+ * It delegates to RoleAuthorities, which hands out shared sets; the GC profiler should report ~0 B/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoleAuthoritiesBenchmark {
+
+    private final Set<Role> userRoles = EnumSet.of(Role.USER);
+    private final Set<Role> adminRoles = EnumSet.of(Role.USER, Role.ADMIN);
+
+    @Benchmark
+    public Set<GrantedAuthority> singleRole() {
+        return RoleAuthorities.of(userRoles);
+    }
+
+    @Benchmark
+    public Set<GrantedAuthority> multipleRoles() {
+        return RoleAuthorities.of(adminRoles);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ums.core.user_management_system.benchmark;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.mapper.UserMapper;
+import com.ums.core.user_management_system.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping User entities to response DTOs with the generated MapStruct mapper,
+ * for a single user and for list sizes covering a page up to a full listing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    @Param({"1", "50", "1000"})
+    private int listSize;
+
+    private final UserMapper userMapper = new UserMapperImpl();
+    private User user;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(listSize);
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < listSize; i++) {
+            users.add(User.builder()
+                    .id(UUID.randomUUID())
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("$2a$12$abcdefghijklmnopqrstuv")
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .phoneNumber("+1-555-0100")
+                    .active(true)
+                    .roles(Set.of(Role.USER))
+                    .createdAt(now.minusDays(i))
+                    .updatedAt(now)
+                    .build());
+        }
+        user = users.get(0);
+    }
+
+    @Benchmark
+    public UserResponseDTO toUserResponseDTO() {
+        return userMapper.toUserResponseDTO(user);
+    }
+
+    @Benchmark
+    public List<UserResponseDTO> toUserResponseDTOList() {
+        return userMapper.toUserResponseDTOList(users);
+    }
+}
@@ -0,0 +1,140 @@
+package com.ums.core.user_management_system.loadtest;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes, prints and compares the latency histograms of load test runs.
+ *
+ * A run directory holds one HdrHistogram log per operation ({@code read.hlog}, {@code write.hlog}) in the
+ * standard format, so it can also be plotted with HdrHistogram's HistogramLogAnalyzer, plus a human-readable
+ * {@code summary.txt}. Values are recorded in microseconds.
+ */
+final class LatencyReport {
+
+    static final String[] OPERATIONS = {"read", "write"};
+
+    private LatencyReport() {
+    }
+
+    /**
+     * One operation's results.
+     *
+     * @param histogram      Latencies in microseconds, measured from the intended (scheduled) start.
+     * @param seconds        Length of the measured phase.
+     * @param statusCounts   Responses per status class ("2xx", "4xx", ...), plus "error" and "dropped".
+     */
+    record Result(Histogram histogram, double seconds, Map<String, Long> statusCounts) {
+    }
+
+    static void write(Path dir, Map<String, Result> results, String header) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            if (entry.getValue().histogram().getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey() + ".hlog")))) {
+                HistogramLogWriter writer = new HistogramLogWriter(out);
+                writer.outputComment(header);
+                writer.outputLegend();
+                writer.outputIntervalHistogram(entry.getValue().histogram());
+            }
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("summary.txt")))) {
+            out.println(header);
+            print(out, results);
+        }
+    }
+
+    static void print(PrintStream out, Map<String, Result> results) {
+        out.printf(Locale.ROOT, "%-6s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "status");
+        for (String operation : OPERATIONS) {
+            Result result = results.get(operation);
+            if (result == null || result.histogram().getTotalCount() == 0) {
+                continue;
+            }
+            Histogram h = result.histogram();
+            out.printf(Locale.ROOT, "%-6s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    operation, h.getTotalCount(), h.getTotalCount() / result.seconds(),
+                    millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0,
+                    result.statusCounts());
+        }
+    }
+
+    /**
+     * Prints p50/p99/p99.9 and throughput of two runs side by side with the relative change.
+     */
+    static void compare(PrintStream out, Path baseline, Path candidate) throws IOException {
+        out.printf(Locale.ROOT, "%-6s %-8s %12s %12s %9s%n", "op", "metric", "baseline", "candidate", "change");
+        for (String operation : OPERATIONS) {
+            Histogram before = read(baseline.resolve(operation + ".hlog"));
+            Histogram after = read(candidate.resolve(operation + ".hlog"));
+            if (before == null || after == null) {
+                continue; // Operation not part of both runs
+            }
+            row(out, operation, "count", before.getTotalCount(), after.getTotalCount());
+            row(out, operation, "req/s", throughput(before), throughput(after));
+            for (double percentile : new double[]{50, 99, 99.9}) {
+                row(out, operation, "p" + trim(percentile) + " ms", millis(before, percentile), millis(after, percentile));
+            }
+            row(out, operation, "max ms", before.getMaxValue() / 1000.0, after.getMaxValue() / 1000.0);
+        }
+    }
+
+    private static void row(PrintStream out, String operation, String metric, double before, double after) {
+        String change = before == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (after - before) / before * 100);
+        out.printf(Locale.ROOT, "%-6s %-8s %12.2f %12.2f %9s%n", operation, metric, before, after, change);
+    }
+
+    private static Histogram read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        List<EncodableHistogram> intervals = new ArrayList<>();
+        try {
+            HistogramLogReader reader = new HistogramLogReader(file.toFile());
+            for (EncodableHistogram interval = reader.nextIntervalHistogram(); interval != null;
+                 interval = reader.nextIntervalHistogram()) {
+                intervals.add(interval);
+            }
+        } catch (FileNotFoundException ex) {
+            return null;
+        }
+        Histogram merged = null;
+        for (EncodableHistogram interval : intervals) {
+            Histogram histogram = (Histogram) interval;
+            if (merged == null) {
+                merged = histogram.copy();
+            } else {
+                merged.add(histogram);
+            }
+        }
+        return merged;
+    }
+
+    private static double throughput(Histogram histogram) {
+        double seconds = (histogram.getEndTimeStamp() - histogram.getStartTimeStamp()) / 1000.0;
+        return seconds <= 0 ? 0 : histogram.getTotalCount() / seconds;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
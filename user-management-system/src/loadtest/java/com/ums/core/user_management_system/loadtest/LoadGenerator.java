@@ -0,0 +1,176 @@
+package com.ums.core.user_management_system.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator for the user API: {@code GET /api/v1/users} and {@code POST /api/v1/users}
+ * against a running instance.
+ *
+ * Requests are started on a fixed schedule at the target rate whether or not earlier ones have completed, the
+ * way independent users arrive. Latency is measured from each request's scheduled start, not from when it was
+ * actually sent, so a stalled server shows up in the percentiles instead of silently lowering the request rate
+ * (coordinated omission). Latencies go into HdrHistograms with 3 significant digits.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--scenario=mixed --rate=200 --duration=60s"
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--compare=target/loadtest/before,target/loadtest/after"
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final String USERS_PATH = "/api/v1/users";
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Recorder> recorders = Map.of("read", new Recorder(3), "write", new Recorder(3));
+    private final Map<String, Map<String, LongAdder>> statusCounts = new ConcurrentHashMap<>();
+    private final Semaphore inFlight;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    LoadGenerator(LoadTestOptions options) {
+        this.options = options;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .executor(executor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg + "\n" + LoadTestOptions.USAGE);
+            }
+            int separator = arg.indexOf('=');
+            values.put(separator < 0 ? arg.substring(2) : arg.substring(2, separator),
+                    separator < 0 ? "" : arg.substring(separator + 1));
+        }
+        if (values.containsKey("help")) {
+            System.out.print(LoadTestOptions.USAGE);
+            return;
+        }
+        if (values.containsKey("compare")) {
+            String[] runs = values.get("compare").split(",");
+            if (runs.length != 2) {
+                throw new IllegalArgumentException("--compare expects <baseline dir>,<candidate dir>");
+            }
+            LatencyReport.compare(System.out, Path.of(runs[0]), Path.of(runs[1]));
+            return;
+        }
+        new LoadGenerator(LoadTestOptions.parse(values)).run();
+    }
+
+    void run() throws Exception {
+        String header = String.format("%s rate=%.1f/s readRatio=%.2f duration=%s warmup=%s against %s",
+                Instant.now(), options.rate(), options.readRatio(), options.duration(), options.warmup(),
+                options.baseUrl());
+        System.out.println("Load test: " + header);
+
+        long intervalNanos = (long) (1_000_000_000L / options.rate());
+        long start = System.nanoTime();
+        long measuredFrom = start + options.warmup().toNanos();
+        long end = measuredFrom + options.duration().toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = intended >= measuredFrom;
+            boolean read = ThreadLocalRandom.current().nextDouble() < options.readRatio();
+            String operation = read ? "read" : "write";
+            if (!inFlight.tryAcquire()) {
+                count(measured, operation, "dropped");
+                continue;
+            }
+            httpClient.sendAsync(read ? readRequest() : signupRequest(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (measured) {
+                            recorders.get(operation).recordValue((System.nanoTime() - intended) / 1000);
+                        }
+                        count(measured, operation, failure != null ? "error" : response.statusCode() / 100 + "xx");
+                        inFlight.release();
+                    });
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), options.timeout().toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            System.out.println("Some requests did not complete; they are missing from the results.");
+        }
+        executor.shutdownNow();
+
+        long endMillis = System.currentTimeMillis();
+        long startMillis = endMillis - options.duration().toMillis();
+        Map<String, LatencyReport.Result> results = new LinkedHashMap<>();
+        for (String operation : LatencyReport.OPERATIONS) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            histogram.setStartTimeStamp(startMillis);
+            histogram.setEndTimeStamp(endMillis);
+            Map<String, Long> counts = new TreeMap<>();
+            statusCounts.getOrDefault(operation, Map.of()).forEach((status, adder) -> counts.put(status, adder.sum()));
+            results.put(operation, new LatencyReport.Result(histogram, options.duration().toMillis() / 1000.0, counts));
+        }
+        LatencyReport.print(System.out, results);
+        LatencyReport.write(options.outputDir(), results, header);
+        System.out.println("Histograms written to " + options.outputDir().toAbsolutePath());
+    }
+
+    private void count(boolean measured, String operation, String status) {
+        if (measured) {
+            statusCounts.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(status, key -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    private HttpRequest readRequest() {
+        HttpRequest.Builder request = HttpRequest.newBuilder(options.baseUrl().resolve(options.readPath()))
+                .timeout(options.timeout())
+                .header("Accept", "application/json")
+                .GET();
+        if (options.basicAuth() != null) {
+            request.header("Authorization", "Basic "
+                    + Base64.getEncoder().encodeToString(options.basicAuth().getBytes(StandardCharsets.UTF_8)));
+        }
+        return request.build();
+    }
+
+    private HttpRequest signupRequest() {
+        String username = "lt" + runId + "x" + signupSequence.incrementAndGet();
+        String body = """
+                {"username":"%s","email":"%s@loadtest.example.com","password":"LoadTest-Passw0rd"}"""
+                .formatted(username, username);
+        return HttpRequest.newBuilder(options.baseUrl().resolve(URI.create(USERS_PATH)))
+                .timeout(options.timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ums.core.user_management_system.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of the load generator, given as {@code --name=value}.
+ *
+ * @param baseUrl      Root URL of the instance under test.
+ * @param rate         Target arrival rate in requests per second, independent of how fast responses come back.
+ * @param duration     Length of the measured phase.
+ * @param warmup       Length of the unmeasured phase before it, at the same rate.
+ * @param readRatio    Share of requests that are reads (GET); the rest are signups (POST). 1.0 is read-only.
+ * @param readPath     Path of the read request.
+ * @param basicAuth    Optional "user:password" sent as HTTP Basic credentials on reads.
+ * @param maxInFlight  Requests that may be outstanding at once; arrivals beyond it are counted as dropped.
+ * @param timeout      Per-request timeout.
+ * @param outputDir    Directory the run's histograms and summary are written to.
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        double readRatio,
+        String readPath,
+        String basicAuth,
+        int maxInFlight,
+        Duration timeout,
+        Path outputDir) {
+
+    static final String USAGE = """
+            Usage: LoadGenerator [--name=value ...]
+              --base-url=http://localhost:8080   instance under test
+              --scenario=mixed                   read | signup | mixed (presets for --read-ratio: 1.0, 0.0, 0.9)
+              --read-ratio=0.9                   share of GET requests; overrides the scenario
+              --rate=100                         target arrivals per second (open model)
+              --duration=60s  --warmup=10s       measured and unmeasured phase
+              --read-path=/api/v1/users          path of the read request
+              --basic-auth=user:password         credentials for reads (optional)
+              --max-in-flight=2000  --timeout=10s
+              --out=target/loadtest/<timestamp>  where histograms and summary.txt go
+            Compare two runs:
+              LoadGenerator --compare=<baseline dir>,<candidate dir>
+            """;
+
+    static LoadTestOptions parse(Map<String, String> args) {
+        Map<String, String> values = new HashMap<>(args);
+        double readRatio = switch (values.getOrDefault("scenario", "mixed")) {
+            case "read" -> 1.0;
+            case "signup" -> 0.0;
+            case "mixed" -> 0.9;
+            default -> throw new IllegalArgumentException("Unknown scenario: " + values.get("scenario"));
+        };
+        if (values.containsKey("read-ratio")) {
+            readRatio = Double.parseDouble(values.get("read-ratio"));
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("--read-ratio must be between 0 and 1");
+        }
+        double rate = Double.parseDouble(values.getOrDefault("rate", "100"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        String out = values.getOrDefault("out", "target/loadtest/" + System.currentTimeMillis());
+        return new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                rate,
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                readRatio,
+                values.getOrDefault("read-path", "/api/v1/users"),
+                values.get("basic-auth"),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                duration(values.getOrDefault("timeout", "10s")),
+                Path.of(out));
+    }
+
+    /**
+     * Parses "250ms", "30s" or "5m".
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+}
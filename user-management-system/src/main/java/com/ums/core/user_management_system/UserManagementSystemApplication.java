@@ -2,10 +2,12 @@ package com.ums.core.user_management_system;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
 
 
-@SpringBootApplication
+// R2DBC is only used for the reactive read API; see ReactiveReadConfig
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class UserManagementSystemApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,15 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the settings of asynchronous signups when {@code ums.async-signup.enabled=true}
+ * (see AsyncSignupServiceImpl and AsyncSignupController, which are conditional on the same property).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ums.async-signup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AsyncSignupProperties.class)
+public class AsyncSignupConfig {
+}
@@ -0,0 +1,30 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for asynchronous (write-behind) signups (prefix {@code ums.async-signup}).
+ *
+ * @param enabled         Whether clients may ask for asynchronous signups with {@code Prefer: respond-async}.
+ *                        When off, the header is ignored and every signup is answered synchronously.
+ * @param queueCapacity   Signups that may wait for the writer; beyond that, requests fail fast with HTTP 503.
+ * @param maxBatchSize    Most signups inserted in one transaction.
+ * @param jobRetention    How long the outcome of a signup can be polled after it was accepted or completed.
+ * @param maxTrackedJobs  Upper bound for the number of outcomes kept for polling.
+ * @param shutdownTimeout How long shutdown waits for the writer to store the signups still queued.
+ * @param retryBackoff    Pause before rewriting a batch rolled back by a concurrent insert; doubled for each
+ *                        further attempt, plus random jitter of up to the same amount.
+ */
+@ConfigurationProperties(prefix = "ums.async-signup")
+public record AsyncSignupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("10m") Duration jobRetention,
+        @DefaultValue("100000") long maxTrackedJobs,
+        @DefaultValue("30s") Duration shutdownTimeout,
+        @DefaultValue("50ms") Duration retryBackoff) {
+}
@@ -0,0 +1,41 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the authentication caches (prefix {@code ums.auth-cache}).
+ *
+ * @param userDetails Cache of loaded UserDetails, keyed by lower-cased username.
+ * @param credentials Cache of successful password verifications, keyed by an HMAC of the credential.
+ */
+@ConfigurationProperties(prefix = "ums.auth-cache")
+public record AuthCacheProperties(
+        @DefaultValue UserDetailsCache userDetails,
+        @DefaultValue CredentialsCache credentials) {
+
+    /**
+     * @param maxSize Maximum number of cached users.
+     * @param ttl     Time after which a cached user is reloaded from the database.
+     */
+    public record UserDetailsCache(
+            @DefaultValue("10000") long maxSize,
+            @DefaultValue("60s") Duration ttl) {
+    }
+
+    /**
+     * @param enabled Whether successful verifications are cached at all. Off by default: a repeat login then skips
+     *                BCrypt, but while an entry lives the process holds an HMAC of the password, and anyone who
+     *                can read the heap gets the HMAC key with it and can test guesses at HMAC rather than BCrypt
+     *                speed. Worth it for clients that send HTTP Basic credentials on every request.
+     * @param maxSize Maximum number of remembered verifications.
+     * @param ttl     Lifetime of a remembered verification.
+     */
+    public record CredentialsCache(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10000") long maxSize,
+            @DefaultValue("30s") Duration ttl) {
+    }
+}
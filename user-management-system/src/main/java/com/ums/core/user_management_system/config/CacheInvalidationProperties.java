@@ -0,0 +1,25 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the cross-node cache invalidation bus (prefix {@code ums.cache-invalidation}).
+ *
+ * @param enabled            Whether user changes are broadcast to, and received from, other nodes.
+ * @param channel            PostgreSQL NOTIFY channel; lower-case letters, digits and underscores only.
+ * @param coalesceWindow     How long to keep collecting notifications after the first one before evicting,
+ *                           so a burst of changes to the same user results in a single eviction.
+ * @param validationInterval Idle time after which the listener connection is checked for liveness.
+ * @param reconnectDelay     Pause between attempts to re-establish a lost listener connection.
+ */
+@ConfigurationProperties(prefix = "ums.cache-invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ums_user_changed") String channel,
+        @DefaultValue("20ms") Duration coalesceWindow,
+        @DefaultValue("30s") Duration validationInterval,
+        @DefaultValue("2s") Duration reconnectDelay) {
+}
@@ -0,0 +1,20 @@
+package com.ums.core.user_management_system.config;
+
+import com.ums.core.user_management_system.dto.ExportFormat;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Binds the export {@code format} request parameter case-insensitively (e.g. {@code ?format=csv}).
+ * Picked up automatically by Spring MVC; unknown values result in HTTP 400.
+ */
+@Component
+public class ExportFormatConverter implements Converter<String, ExportFormat> {
+
+    @Override
+    public ExportFormat convert(String source) {
+        return ExportFormat.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ums.core.user_management_system.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.ums.core.user_management_system.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Enables Hibernate's second-level cache for User when {@code ums.hibernate-cache.enabled=true}.
+ *
+ * Both regions live in this JVM (Caffeine behind the JCache API) and are created here, sized from
+ * HibernateCacheProperties; Hibernate is told to fail rather than create a region nobody configured.
+ * Changes made on other nodes are evicted via UserSecondLevelCache.
+ *
+ * Otherwise the cache stays off: application.properties sets hibernate.cache.use_second_level_cache=false, which
+ * the customizer below overrides. Without that, hibernate-jcache on the classpath would enable the cache by itself
+ * with unbounded regions created on the fly, in {@code @DataJpaTest} slices too.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ums.hibernate-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties, MeterRegistry meterRegistry) {
+        // One manager per application context: the provider hands out the same manager for the same URI,
+        // and tests run several contexts in one JVM
+        URI uri = URI.create("ums-hibernate-" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+        createRegion(cacheManager, User.CACHE_REGION, properties.entities(), properties.statistics());
+        createRegion(cacheManager, User.NATURAL_ID_CACHE_REGION, properties.naturalIds(), properties.statistics());
+        if (properties.statistics()) {
+            for (String region : cacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(region));
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, HibernateCacheProperties.Region region,
+                                     boolean statistics) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+        configuration.setStatisticsEnabled(statistics);
+        // Hibernate stores immutable, disassembled entries; copying them on every read would only cost allocations
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+}
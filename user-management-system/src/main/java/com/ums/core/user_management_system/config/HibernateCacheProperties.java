@@ -0,0 +1,31 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for Hibernate's second-level cache of User entities (prefix {@code ums.hibernate-cache}).
+ *
+ * @param enabled    Whether the second-level cache is used at all.
+ * @param entities   Region of User entities, keyed by ID.
+ * @param naturalIds Region mapping normalized usernames to user IDs.
+ * @param statistics Whether hit/miss/eviction counts of both regions are exported as {@code cache.*} meters.
+ */
+@ConfigurationProperties(prefix = "ums.hibernate-cache")
+public record HibernateCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Region entities,
+        @DefaultValue Region naturalIds,
+        @DefaultValue("true") boolean statistics) {
+
+    /**
+     * @param maxSize Maximum number of entries; the least recently used ones are evicted beyond it.
+     * @param ttl     Time after which an entry is reloaded from the database.
+     */
+    public record Region(
+            @DefaultValue("10000") long maxSize,
+            @DefaultValue("5m") Duration ttl) {
+    }
+}
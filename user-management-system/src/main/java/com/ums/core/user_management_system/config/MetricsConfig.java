@@ -0,0 +1,20 @@
+package com.ums.core.user_management_system.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Micrometer's {@code @Timed} on Spring beans (e.g. UserServiceImpl).
+ * Endpoint, repository, connection pool and Hibernate meters are bound by Spring Boot;
+ * histogram settings live in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
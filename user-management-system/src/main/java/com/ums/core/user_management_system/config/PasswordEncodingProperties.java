@@ -0,0 +1,22 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the password encoder work factor (prefix {@code ums.password-encoding}).
+ *
+ * @param targetDuration Latency budget for one hash; the BCrypt strength is calibrated to stay within it.
+ * @param minStrength    Lowest strength calibration may pick, however slow the node.
+ * @param maxStrength    Highest strength calibration may pick, however fast the node.
+ * @param strength       Fixed strength that skips calibration; unset by default.
+ */
+@ConfigurationProperties(prefix = "ums.password-encoding")
+public record PasswordEncodingProperties(
+        @DefaultValue("100ms") Duration targetDuration,
+        @DefaultValue("10") int minStrength,
+        @DefaultValue("14") int maxStrength,
+        Integer strength) {
+}
@@ -0,0 +1,27 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the dedicated password hashing executor (prefix {@code ums.password-hashing}).
+ *
+ * @param threads       Worker threads; 0 means one per available processor.
+ * @param queueCapacity Maximum number of hash jobs waiting for a worker before new ones are rejected.
+ * @param timeout       Maximum time a caller waits for its hash (queueing plus hashing).
+ */
+@ConfigurationProperties(prefix = "ums.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("5s") Duration timeout) {
+
+    /**
+     * @return The configured thread count, or the number of available processors if unset.
+     */
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
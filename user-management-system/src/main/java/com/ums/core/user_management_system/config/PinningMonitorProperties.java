@@ -0,0 +1,21 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the virtual-thread pinning monitor (prefix {@code ums.pinning-monitor}), which is only
+ * started when {@code spring.threads.virtual.enabled=true}.
+ *
+ * @param enabled   Whether pinning events are recorded with JFR and reported.
+ * @param threshold Minimum time a virtual thread must stay pinned to its carrier to be reported.
+ * @param maxFrames Number of stack frames, starting at the innermost non-JDK frame, that identify a pinning site.
+ */
+@ConfigurationProperties(prefix = "ums.pinning-monitor")
+public record PinningMonitorProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("8") int maxFrames) {
+}
@@ -0,0 +1,62 @@
+package com.ums.core.user_management_system.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * Provides the DatabaseClient behind the reactive read API, over its own R2DBC connection pool configured
+ * from {@code spring.r2dbc.*}. The pool is separate from the JDBC (Hikari) pool, so reactive reads never
+ * compete with the write path for connections.
+ *
+ * The pool is deliberately not exposed as a ConnectionFactory bean (and Spring Boot's R2DBC auto-configuration
+ * is excluded on the application class): Spring Boot treats such a bean as "this is an R2DBC application" and
+ * backs off from configuring the DataSource, and with it JPA and Flyway.
+ */
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactiveReadConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(R2dbcProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (StringUtils.hasText(properties.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (StringUtils.hasText(properties.getPassword())) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        R2dbcProperties.Pool pool = properties.getPool();
+        ConnectionPoolConfiguration.Builder poolConfiguration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("ums-reactive-read")
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime());
+        if (pool.getMaxAcquireTime() != null) {
+            poolConfiguration.maxAcquireTime(pool.getMaxAcquireTime());
+        }
+        if (StringUtils.hasText(pool.getValidationQuery())) {
+            poolConfiguration.validationQuery(pool.getValidationQuery());
+        }
+        connectionPool = new ConnectionPool(poolConfiguration.build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ums.core.user_management_system.config;
+
+import com.ums.core.user_management_system.entity.Role;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Binds the {@code role} request parameter case-insensitively (e.g. {@code ?role=admin}).
+ * Picked up automatically by Spring MVC; unknown values result in HTTP 400.
+ */
+@Component
+public class RoleConverter implements Converter<String, Role> {
+
+    @Override
+    public Role convert(String source) {
+        return Role.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
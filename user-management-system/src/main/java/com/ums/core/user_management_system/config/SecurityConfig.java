@@ -1,30 +1,87 @@
 package com.ums.core.user_management_system.config;
 
+import com.ums.core.user_management_system.security.BCryptStrengthCalibrator;
+import com.ums.core.user_management_system.security.CredentialCachingPasswordEncoder;
+import com.ums.core.user_management_system.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Map;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({AuthCacheProperties.class, PasswordEncodingProperties.class})
 public class SecurityConfig {
     private static final String API_USERS_PATH = "/api/v1/users";
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * Delegating encoder that stores new hashes as {bcrypt}$2a$<strength>$..., i.e. with algorithm and cost,
+     * using a BCrypt strength calibrated on this node to the configured latency budget.
+     * Legacy hashes without an {id} prefix are still verified as BCrypt; hashes that are unprefixed or weaker
+     * than the current strength report upgradeEncoding() and are re-hashed after the next successful login
+     * (see RehashingAuthenticationProvider).
+     *
+     * BCrypt calls are timed as ums.password.bcrypt. Optionally wrapped so that repeat verifications
+     * of the same credential skip the BCrypt work for a short TTL (see ums.auth-cache.credentials.*).
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordEncodingProperties passwordEncodingProperties,
+                                           AuthCacheProperties authCacheProperties,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        int strength = passwordEncodingProperties.strength() != null
+                ? passwordEncodingProperties.strength()
+                : new BCryptStrengthCalibrator().calibrate(passwordEncodingProperties.targetDuration(),
+                        passwordEncodingProperties.minStrength(), passwordEncodingProperties.maxStrength());
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            bcrypt = new TimedPasswordEncoder(bcrypt, registry);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        AuthCacheProperties.CredentialsCache settings = authCacheProperties.credentials();
+        if (!settings.enabled()) {
+            return delegating;
+        }
+        CredentialCachingPasswordEncoder encoder =
+                new CredentialCachingPasswordEncoder(delegating, settings.maxSize(), settings.ttl());
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, encoder.cache(), "auth.credentials");
+        }
+        return encoder;
+    }
 
+    /**
+     * Exposes the AuthenticationManager built from CustomUserDetailsService and the PasswordEncoder,
+     * so that the token endpoint verifies credentials exactly like HTTP Basic does.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
+        return authenticationConfiguration.getAuthenticationManager();
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
         http
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
@@ -34,6 +91,8 @@ public class SecurityConfig {
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .httpBasic(withDefaults())
+                // Bearer tokens from POST /api/v1/auth/token are verified against the signing keys only
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter)))
                 .csrf(AbstractHttpConfigurer::disable)
                 // Disable default form login and http basic
                 .formLogin(AbstractHttpConfigurer::disable);
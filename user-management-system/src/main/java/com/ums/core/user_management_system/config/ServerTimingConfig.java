@@ -0,0 +1,81 @@
+package com.ums.core.user_management_system.config;
+
+import com.ums.core.user_management_system.timing.RequestTimings;
+import com.ums.core.user_management_system.timing.ServerTimingFilter;
+import com.ums.core.user_management_system.timing.TimedValidator;
+import com.ums.core.user_management_system.timing.TimingPhase;
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wires the Server-Timing recorder (see ServerTimingFilter) when {@code ums.server-timing.enabled=true}.
+ * The auth phase is bounded by two filters around the Spring Security chain; validation, repository calls and
+ * response writing are measured where Spring MVC and Spring Data perform them, so every endpoint is covered.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ums.server-timing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<Filter> authenticationTimingFilter() {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            RequestTimings.markAuthenticated();
+            chain.doFilter(request, response);
+        });
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    /**
+     * Adds every Spring Data repository invocation of the current request to the db phase.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTimingBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                    repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> RequestTimings.record(TimingPhase.DB,
+                                    invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Replaces the MVC validator with a timed view of the application's Bean Validation validator.
+     */
+    @Bean
+    public WebMvcConfigurer validationTimingConfigurer(ObjectProvider<jakarta.validation.Validator> validator) {
+        return new WebMvcConfigurer() {
+            @Override
+            public Validator getValidator() {
+                return new TimedValidator(new SpringValidatorAdapter(validator.getObject()));
+            }
+        };
+    }
+}
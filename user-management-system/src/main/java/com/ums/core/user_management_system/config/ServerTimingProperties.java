@@ -0,0 +1,22 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for per-request phase timing (prefix {@code ums.server-timing}).
+ *
+ * @param enabled              Whether requests are timed at all. When off, nothing is registered and the probes
+ *                             in the request path reduce to a single volatile read.
+ * @param header               Whether the breakdown is sent to clients in a Server-Timing header; turn off to
+ *                             keep only the slow-request log, e.g. on internet-facing nodes.
+ * @param slowRequestThreshold Requests taking at least this long are logged with their breakdown.
+ */
+@ConfigurationProperties(prefix = "ums.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean header,
+        @DefaultValue("1s") Duration slowRequestThreshold) {
+}
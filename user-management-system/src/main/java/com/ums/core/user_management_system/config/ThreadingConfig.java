@@ -0,0 +1,32 @@
+package com.ums.core.user_management_system.config;
+
+import com.ums.core.user_management_system.threading.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Support for the virtual-thread execution mode ({@code spring.threads.virtual.enabled=true}).
+ *
+ * The switch itself is Spring Boot's: Tomcat then runs each request on a new virtual thread, and the application
+ * task executor (asynchronous MVC responses such as the export stream) and scheduler use virtual threads too.
+ * The password hashing executor deliberately stays a bounded pool of platform threads: BCrypt is CPU-bound and
+ * the bounded queue is what turns a signup burst into fast 503s. Only the wait for a hash moves to virtual threads.
+ * The single-threaded background indexers are unaffected.
+ */
+@Configuration
+@EnableConfigurationProperties(PinningMonitorProperties.class)
+public class ThreadingConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "ums.pinning-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(PinningMonitorProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ums.core.user_management_system.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.ums.core.user_management_system.security.TokenSigningKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+/**
+ * Signing and verification of the access tokens issued by POST /api/v1/auth/token.
+ * Verification uses only the configured public keys, so a bearer request never touches the database.
+ */
+@Configuration
+@EnableConfigurationProperties(TokenProperties.class)
+@Slf4j
+public class TokenConfig {
+
+    public static final String USERNAME_CLAIM = "username";
+    public static final String ROLES_CLAIM = "roles";
+
+    @Bean
+    public TokenSigningKeys tokenSigningKeys(TokenProperties tokenProperties) {
+        if (tokenProperties.keys().isEmpty()) {
+            log.warn("No ums.auth.token.keys configured; signing tokens with an ephemeral key that is lost on restart");
+            return TokenSigningKeys.ephemeral();
+        }
+        TokenSigningKeys keys = TokenSigningKeys.load(tokenProperties);
+        log.info("Signing tokens with key '{}' ({} verification keys)",
+                keys.activeKey().getKeyID(), keys.verificationKeys().size());
+        return keys;
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(TokenSigningKeys keys) {
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(keys.activeKey())));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(TokenSigningKeys keys, TokenProperties tokenProperties) {
+        // The kid header selects among the active and the retired-but-still-accepted keys
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256,
+                new ImmutableJWKSet<>(keys.verificationKeys())));
+        // Claims are validated by Spring's validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(tokenProperties.issuer()));
+        return decoder;
+    }
+
+    /**
+     * Maps the roles claim back to ROLE_ authorities and uses the username as the principal name,
+     * so bearer-authenticated requests look the same as HTTP Basic ones to the rest of the application.
+     */
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName(ROLES_CLAIM);
+        authoritiesConverter.setAuthorityPrefix("ROLE_");
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        converter.setPrincipalClaimName(USERNAME_CLAIM);
+        return converter;
+    }
+}
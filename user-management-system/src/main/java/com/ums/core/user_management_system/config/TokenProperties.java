@@ -0,0 +1,40 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for issued access tokens (prefix {@code ums.auth.token}).
+ *
+ * Keys are RSA PEM files. To rotate, add a new key, point {@code active-key-id} at it and keep the
+ * previous key listed (its public key is enough) until tokens signed with it have expired.
+ * When no keys are configured an ephemeral key pair is generated at startup; tokens then do not
+ * survive a restart and are not accepted by other instances.
+ *
+ * @param issuer      Value of the {@code iss} claim, checked on every incoming token.
+ * @param ttl         Lifetime of an issued token.
+ * @param activeKeyId ID of the key new tokens are signed with; defaults to the first configured key.
+ * @param keys        Known signing/verification keys.
+ */
+@ConfigurationProperties(prefix = "ums.auth.token")
+public record TokenProperties(
+        @DefaultValue("user-management-system") String issuer,
+        @DefaultValue("15m") Duration ttl,
+        String activeKeyId,
+        @DefaultValue List<SigningKey> keys) {
+
+    /**
+     * @param id                 Key ID, written to the {@code kid} header of tokens signed with this key.
+     * @param privateKeyLocation PKCS#8 private key; required for the active key only.
+     * @param publicKeyLocation  X.509 public key; derived from the private key when omitted.
+     */
+    public record SigningKey(
+            String id,
+            Resource privateKeyLocation,
+            Resource publicKeyLocation) {
+    }
+}
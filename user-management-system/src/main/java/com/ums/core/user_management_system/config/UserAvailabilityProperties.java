@@ -0,0 +1,23 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the Bloom filters behind username/email availability checks (prefix {@code ums.availability}).
+ *
+ * @param falsePositiveProbability Target share of never-used values that still have to be checked in the database.
+ * @param minCapacity              Lower bound for the number of values each filter is sized for; filters are
+ *                                 sized for twice the current directory so that signups have headroom until
+ *                                 the next rebuild.
+ * @param rebuildInterval          How often the filters are rebuilt from the database. A rebuild drops the values
+ *                                 of renamed users and restores the target false-positive probability.
+ */
+@ConfigurationProperties(prefix = "ums.availability")
+public record UserAvailabilityProperties(
+        @DefaultValue("0.01") double falsePositiveProbability,
+        @DefaultValue("100000") long minCapacity,
+        @DefaultValue("6h") Duration rebuildInterval) {
+}
@@ -0,0 +1,48 @@
+package com.ums.core.user_management_system.config;
+
+import com.ums.core.user_management_system.event.PostgresUserChangeBus;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DriverManager;
+import java.util.Properties;
+
+/**
+ * Registers the settings of the in-process user caches (including the availability filters) and, when enabled,
+ * the bus that keeps them consistent across nodes.
+ */
+@Configuration
+@EnableConfigurationProperties({UserCacheProperties.class, CacheInvalidationProperties.class,
+        UserAvailabilityProperties.class})
+public class UserCacheConfig {
+
+    /**
+     * The listener connection is opened with the application's datasource settings but outside the pool:
+     * it stays checked out forever and would otherwise be recycled by Hikari's max-lifetime.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "ums.cache-invalidation", name = "enabled", havingValue = "true")
+    public PostgresUserChangeBus postgresUserChangeBus(CacheInvalidationProperties properties, JdbcTemplate jdbcTemplate,
+                                                       UserExportRepository userExportRepository,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       ApplicationEventPublisher eventPublisher) {
+        Properties connectionProperties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            connectionProperties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        connectionProperties.setProperty("ApplicationName", "ums-cache-invalidation");
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        String url = dataSourceProperties.determineUrl();
+        return new PostgresUserChangeBus(properties, jdbcTemplate, userExportRepository,
+                () -> DriverManager.getConnection(url, connectionProperties), eventPublisher);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ums.core.user_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the read-through cache behind {@code GET /api/v1/users/{id}} (prefix {@code ums.user-cache}).
+ *
+ * @param maxSize Maximum number of cached users; the least recently used ones are evicted beyond it.
+ * @param ttl     Time after which a cached user is reloaded from the database.
+ */
+@ConfigurationProperties(prefix = "ums.user-cache")
+public record UserCacheProperties(
+        @DefaultValue("10000") long maxSize,
+        @DefaultValue("5m") Duration ttl) {
+}
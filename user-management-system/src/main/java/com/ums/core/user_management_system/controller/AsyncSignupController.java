@@ -0,0 +1,98 @@
+package com.ums.core.user_management_system.controller;
+
+import com.ums.core.user_management_system.dto.SignupJobDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+import com.ums.core.user_management_system.service.AsyncSignupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Asynchronous signups, enabled with {@code ums.async-signup.enabled=true}.
+ * A client opts in per request by sending {@code Prefer: respond-async} (RFC 7240) with the usual
+ * POST /api/v1/users; without the header, or while the feature is off, UserController answers synchronously.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@ConditionalOnProperty(prefix = "ums.async-signup", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Tag(name = "User Management", description = "APIs for managing users")
+@Slf4j
+public class AsyncSignupController {
+
+    public static final String RESPOND_ASYNC = "respond-async";
+    public static final String SIGNUPS_PATH = "/signups";
+
+    private final AsyncSignupService asyncSignupService;
+
+    /**
+     * Endpoint to accept a new user for asynchronous creation.
+     * Validation and duplicate checks are the same as for synchronous signups; the user is inserted
+     * together with other queued signups shortly afterwards.
+     *
+     * @param userRequestDTO The user data from the request body.
+     * @return HTTP 202 with the pending job and its status URL in the Location header.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE,
+            headers = "Prefer=" + RESPOND_ASYNC)
+    @Operation(summary = "Create a new user asynchronously",
+            description = "With 'Prefer: respond-async' the signup is queued and written in a batch; poll the Location for the outcome.",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Prefer", required = true,
+                    example = RESPOND_ASYNC))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Signup accepted; poll the Location header"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data provided"),
+            @ApiResponse(responseCode = "409", description = "Username or email already exists or is being registered"),
+            @ApiResponse(responseCode = "503", description = "Signup queue is full; retry later")
+    })
+    public ResponseEntity<SignupJobDTO> submitSignup(@Valid @RequestBody UserRequestDTO userRequestDTO) {
+        log.info("Received asynchronous signup for username: {}", userRequestDTO.getUsername());
+
+        SignupJobDTO job = asyncSignupService.submit(userRequestDTO);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path(SIGNUPS_PATH + "/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(job);
+    }
+
+    /**
+     * Endpoint to poll an asynchronous signup.
+     *
+     * @param jobId The job id from the 202 response.
+     * @return The job; once its status is CREATED it contains the user.
+     */
+    @GetMapping(path = SIGNUPS_PATH + "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get an asynchronous signup", description = "Returns the state of a signup accepted with 'Prefer: respond-async'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found; inspect its status"),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired job (jobs are kept by the accepting node only)")
+    })
+    public ResponseEntity<SignupJobDTO> getSignupJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(asyncSignupService.getJob(jobId));
+    }
+}
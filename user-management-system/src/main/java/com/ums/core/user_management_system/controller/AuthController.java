@@ -0,0 +1,52 @@
+package com.ums.core.user_management_system.controller;
+
+import com.ums.core.user_management_system.dto.TokenRequestDTO;
+import com.ums.core.user_management_system.dto.TokenResponseDTO;
+import com.ums.core.user_management_system.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "APIs for obtaining access tokens")
+@Slf4j
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    /**
+     * Endpoint to exchange a username and password for a signed access token.
+     * Subsequent requests send the token as a Bearer credential and are verified without a database lookup.
+     *
+     * @param tokenRequest The credentials.
+     * @return The access token with HTTP 200.
+     */
+    @PostMapping(path = "/token", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Issue an access token",
+            description = "Verifies the credentials once and returns a signed token to send as 'Authorization: Bearer <token>'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token issued"),
+            @ApiResponse(responseCode = "400", description = "Username or password missing"),
+            @ApiResponse(responseCode = "401", description = "Invalid credentials or disabled account")
+    })
+    public ResponseEntity<TokenResponseDTO> issueToken(@Valid @RequestBody TokenRequestDTO tokenRequest) {
+        log.info("Received token request for username: {}", tokenRequest.getUsername());
+        TokenResponseDTO response = tokenService.issueToken(tokenRequest.getUsername(), tokenRequest.getPassword());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+}
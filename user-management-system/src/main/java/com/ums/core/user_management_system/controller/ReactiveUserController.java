@@ -0,0 +1,106 @@
+package com.ums.core.user_management_system.controller;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.service.ReactiveUserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read endpoints for high fan-out clients, backed by R2DBC.
+ * Spring MVC runs them as asynchronous requests: the request thread is released while the query runs,
+ * so open connections are not bounded by the Tomcat thread pool. The full list is only available as NDJSON,
+ * written as fast as the client reads it; a JSON array is built in memory, so it is bounded.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/users")
+@RequiredArgsConstructor
+@Tag(name = "Reactive User Reads", description = "Non-blocking read APIs for the user directory")
+@Slf4j
+public class ReactiveUserController {
+
+    private static final int DEFAULT_LIST_LIMIT = 50;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+
+    private final ReactiveUserService reactiveUserService;
+
+    /**
+     * Endpoint to stream users in creation order, one JSON document per line.
+     *
+     * @param limit Maximum number of users (optional; all users if omitted).
+     * @return The users as an NDJSON stream.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream users (reactive)",
+            description = "Streams users in creation order as NDJSON, with backpressure towards the database.")
+    @ApiResponse(responseCode = "200", description = "Stream of users")
+    public Flux<UserResponseDTO> streamUsers(@RequestParam(required = false) Integer limit) {
+        log.debug("Received reactive request to stream users (limit {})", limit);
+        return reactiveUserService.streamUsers(limit);
+    }
+
+    /**
+     * Endpoint to list the first users in creation order as one JSON array. The array is assembled before it
+     * is written, so the number of users is capped; the full directory is only available as NDJSON.
+     *
+     * @param limit Maximum number of users (1-500).
+     * @return The users.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List users (reactive)",
+            description = "Returns the first users in creation order as a JSON array of at most 500 users. "
+                    + "Use Accept: application/x-ndjson to stream all of them.")
+    @ApiResponse(responseCode = "200", description = "List of users")
+    public Flux<UserResponseDTO> listUsers(@RequestParam(defaultValue = "" + DEFAULT_LIST_LIMIT) int limit) {
+        log.debug("Received reactive request to list users (limit {})", limit);
+        return reactiveUserService.listUsers(limit);
+    }
+
+    /**
+     * Endpoint to get a single user by ID without blocking a thread on the database.
+     *
+     * @param id The UUID of the user.
+     * @return The user.
+     */
+    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a user by ID (reactive)", description = "Retrieves a single user by its unique ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "User found"),
+            @ApiResponse(responseCode = "404", description = "No user with this ID")
+    })
+    public Mono<UserResponseDTO> getUserById(@PathVariable UUID id) {
+        log.debug("Received reactive request to get user with ID: {}", id);
+        return reactiveUserService.getUserById(id);
+    }
+
+    /**
+     * Endpoint to find users by username prefix.
+     *
+     * @param username The username prefix (case-insensitive).
+     * @param limit    Maximum number of matches to return (1-50).
+     * @return Matching users ordered by username.
+     */
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Search users by username (reactive)",
+            description = "Returns users whose username starts with the given prefix, ordered by username.")
+    @ApiResponse(responseCode = "200", description = "Matching users (possibly none)")
+    public Flux<UserResponseDTO> searchByUsername(
+            @RequestParam String username,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        log.debug("Received reactive search for username prefix '{}' (limit {})", username, limit);
+        return reactiveUserService.searchByUsername(username, limit);
+    }
+}
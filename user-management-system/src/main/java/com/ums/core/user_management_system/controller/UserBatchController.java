@@ -0,0 +1,50 @@
+package com.ums.core.user_management_system.controller;
+
+import com.ums.core.user_management_system.dto.UserBatchRequestDTO;
+import com.ums.core.user_management_system.dto.UserBatchResponseDTO;
+import com.ums.core.user_management_system.service.UserBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "User Management", description = "APIs for managing users")
+@Slf4j
+public class UserBatchController {
+
+    public static final String BATCH_PATH = "/api/v1/users:batch";
+
+    private final UserBatchService userBatchService;
+
+    /**
+     * Endpoint to create many users in one request.
+     * Items are validated individually; the response reports CREATED, DUPLICATE or INVALID per item.
+     *
+     * @param batchRequest The users to create (1 to {@value UserBatchRequestDTO#MAX_BATCH_SIZE}).
+     * @return Per-item results with HTTP 200.
+     */
+    @PostMapping(path = BATCH_PATH, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create users in bulk",
+            description = "Registers up to " + UserBatchRequestDTO.MAX_BATCH_SIZE + " users with batched inserts and per-item results.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; inspect per-item results"),
+            @ApiResponse(responseCode = "400", description = "Batch is empty or too large"),
+            @ApiResponse(responseCode = "409", description = "A conflicting user was created concurrently; nothing was inserted")
+    })
+    public ResponseEntity<UserBatchResponseDTO> createUsers(@Valid @RequestBody UserBatchRequestDTO batchRequest) {
+        log.info("Received request to create a batch of {} users", batchRequest.getUsers().size());
+        UserBatchResponseDTO response = userBatchService.createUsers(batchRequest.getUsers());
+        log.info("Batch created {} users", response.getCreated());
+        return ResponseEntity.ok(response);
+    }
+}
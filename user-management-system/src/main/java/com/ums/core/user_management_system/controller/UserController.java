@@ -1,7 +1,14 @@
 package com.ums.core.user_management_system.controller;
 
+import com.ums.core.user_management_system.dto.CursorPageResponseDTO;
+import com.ums.core.user_management_system.dto.UserAvailabilityDTO;
 import com.ums.core.user_management_system.dto.UserRequestDTO;
 import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.exception.ResourceNotFoundException;
+import com.ums.core.user_management_system.service.UserAvailabilityService;
+import com.ums.core.user_management_system.service.UserSearchService;
 import com.ums.core.user_management_system.service.UserService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,14 +23,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
 
 @RestController // Marks this class as a REST controller
 @RequestMapping("/api/v1/users") // Base path for all endpoints in this controller
@@ -32,7 +45,15 @@ import java.util.List;
 @Slf4j
 public class UserController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+
+    // Clients may keep listings but must revalidate them (If-None-Match) before every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
+    private final UserSearchService userSearchService;
+    private final UserAvailabilityService userAvailabilityService;
 
     /**
      * Endpoint to create a new user.
@@ -53,7 +74,10 @@ public class UserController {
                             schema = @Schema(implementation = ErrorResponse.class))), // Define an ErrorResponse DTO if desired
             @ApiResponse(responseCode = "409", description = "Username or email already exists",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = ErrorResponse.class))) // Conflict
+                            schema = @Schema(implementation = ErrorResponse.class))), // Conflict
+            @ApiResponse(responseCode = "503", description = "Password hashing capacity exhausted; retry later",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<UserResponseDTO> createUser(
             @Valid @RequestBody UserRequestDTO userRequestDTO) {
@@ -76,20 +100,145 @@ public class UserController {
 
     /**
      * Endpoint to get all users.
+     * Responses carry a strong ETag derived from the directory version; a request whose If-None-Match
+     * still matches is answered with 304 before any user is loaded or serialized.
      *
-     * @return A list of users.
+     * @param request The current request, used to evaluate If-None-Match.
+     * @return A list of users, or 304 Not Modified.
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get all users", description = "Retrieves a list of all registered users.")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list",
-            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    schema = @Schema(type = "array", implementation = UserResponseDTO.class))) // More specific schema
-    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "array", implementation = UserResponseDTO.class))), // More specific schema
+            @ApiResponse(responseCode = "304", description = "Users unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<List<UserResponseDTO>> getAllUsers(WebRequest request) {
         log.info("Received request to get all users");
+        String eTag = userService.getUsersVersion(); // Read before the data: a concurrent write then only costs a 200
+        if (request.checkNotModified(eTag)) {
+            log.info("Users unchanged (version {}), returning 304", eTag);
+            return notModified(eTag);
+        }
         // Delegate to service
         List<UserResponseDTO> users = userService.getAllUsers();
         log.info("Returning {} users", users.size());
-        return ResponseEntity.ok(users); // Return HTTP 200 OK with the list
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(users); // Return HTTP 200 OK with the list
+    }
+
+    /**
+     * Endpoint to get users one page at a time using keyset (cursor) pagination.
+     * Prefer this over {@link #getAllUsers()} for anything but small installations.
+     *
+     * @param cursor Opaque cursor from the previous page's nextCursor; omit for the first page.
+     * @param limit  Maximum number of users to return (1-500).
+     * @param role   Optional role filter (e.g. ADMIN); keep passing it along with the cursor.
+     * @param request The current request, used to evaluate If-None-Match (same ETag as the full listing).
+     * @return A page of users and the cursor for the next page, or 304 Not Modified.
+     */
+    @GetMapping(path = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of users",
+            description = "Retrieves users in creation order using an opaque cursor. Page latency is independent of depth.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "304", description = "Users unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor or unknown role",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CursorPageResponseDTO<UserResponseDTO>> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) Role role,
+            WebRequest request) {
+        log.info("Received request to get a page of users (limit {}, role {})", limit, role);
+        String eTag = userService.getUsersVersion();
+        if (request.checkNotModified(eTag)) {
+            log.info("Users unchanged (version {}), returning 304", eTag);
+            return notModified(eTag);
+        }
+        CursorPageResponseDTO<UserResponseDTO> page = userService.getUsersPage(cursor, limit, role);
+        log.info("Returning {} users, hasMore={}", page.getItems().size(), page.getNextCursor() != null);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(page);
+    }
+
+    /**
+     * Endpoint for signup forms to check whether a username and/or email is still free.
+     * Values that were never registered are answered from in-memory Bloom filters without a database query.
+     *
+     * @param username The username to check (optional).
+     * @param email    The email to check (optional).
+     * @return Availability of each value that was given.
+     */
+    @GetMapping(path = "/availability", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Check username/email availability",
+            description = "Reports whether the given username and/or email can still be registered (case-insensitive).")
+    @ApiResponse(responseCode = "200", description = "Availability of each value that was given")
+    public ResponseEntity<UserAvailabilityDTO> checkAvailability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        log.debug("Received availability check for username '{}' / email '{}'", username, email);
+        return ResponseEntity.ok(userAvailabilityService.checkAvailability(username, email));
+    }
+
+    /**
+     * Endpoint for typeahead search over usernames and emails.
+     * Served from an in-memory prefix index, so it is cheap enough to call on every keystroke.
+     *
+     * @param prefix The typed prefix (case-insensitive).
+     * @param limit  Maximum number of matches to return (1-50).
+     * @return Users whose username or email starts with the prefix, username matches first.
+     */
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Search users by prefix",
+            description = "Returns users whose username or email starts with the given prefix, for search-as-you-type.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching users (possibly none)"),
+            @ApiResponse(responseCode = "503", description = "Search index is still being built after startup; retry shortly",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<UserSearchResultDTO>> searchUsers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        log.debug("Received search request for prefix '{}' (limit {})", prefix, limit);
+        return ResponseEntity.ok(userSearchService.search(prefix, limit));
+    }
+
+    /**
+     * Endpoint to get a single user by ID.
+     * Answered from the in-process user cache; the ETag is the user's last modification time, so a matching
+     * If-None-Match yields 304 without serializing the user.
+     *
+     * @param id      The UUID of the user.
+     * @param request The current request, used to evaluate If-None-Match.
+     * @return The user, or 304 Not Modified.
+     */
+    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a user by ID", description = "Retrieves a single user by its unique ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "User found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "User unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "No user with this ID",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable UUID id, WebRequest request) {
+        log.debug("Received request to get user with ID: {}", id);
+        UserResponseDTO user = userService.getUserById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        String eTag = Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, user.getUpdatedAt().toInstant()));
+        if (request.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(user);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
     }
 
     // --- Placeholder for ErrorResponse DTO (used in @ApiResponses) ---
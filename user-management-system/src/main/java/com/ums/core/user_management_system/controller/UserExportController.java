@@ -0,0 +1,54 @@
+package com.ums.core.user_management_system.controller;
+
+import com.ums.core.user_management_system.dto.ExportFormat;
+import com.ums.core.user_management_system.service.UserExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+@Tag(name = "User Management", description = "APIs for managing users")
+@Slf4j
+public class UserExportController {
+
+    private final UserExportService userExportService;
+
+    /**
+     * Endpoint to export every user as NDJSON or CSV.
+     * The body is written asynchronously while rows are read from the database,
+     * so neither the server nor the client needs to hold the full directory in memory.
+     *
+     * @param format The output format (ndjson or csv).
+     * @return A streaming response body.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export all users",
+            description = "Streams every user (without password hashes) as newline-delimited JSON or CSV.")
+    @ApiResponse(responseCode = "200", description = "Export stream started")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") ExportFormat format) {
+        log.info("Received request to export users as {}", format);
+
+        StreamingResponseBody body = out -> userExportService.exportUsers(format, out);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object describing the outcome of one item of a batch request.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "Outcome of one item of a batch request")
+public class BatchItemResultDTO {
+
+    @Schema(description = "Zero-based position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Outcome of the item", example = "CREATED")
+    private BatchItemStatus status;
+
+    @Schema(description = "The created user; present only when status is CREATED", nullable = true)
+    private UserResponseDTO user;
+
+    @Schema(description = "Why the item was not created", example = "Username 'johndoe' already exists.", nullable = true)
+    private String message;
+}
@@ -0,0 +1,10 @@
+package com.ums.core.user_management_system.dto;
+
+/**
+ * Outcome of a single item in a batch user creation request.
+ */
+public enum BatchItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
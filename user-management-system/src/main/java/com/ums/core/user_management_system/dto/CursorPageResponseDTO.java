@@ -0,0 +1,31 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a keyset (cursor) paginated listing.
+ *
+ * @param <T> The type of the items on the page.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "One page of a cursor paginated listing")
+public class CursorPageResponseDTO<T> {
+
+    @Schema(description = "Items on this page, in ascending creation order")
+    private List<T> items;
+
+    @Schema(description = "Maximum number of items requested for this page", example = "50")
+    private int limit;
+
+    @Schema(description = "Opaque cursor for the next page; absent when this is the last page", nullable = true)
+    private String nextCursor;
+}
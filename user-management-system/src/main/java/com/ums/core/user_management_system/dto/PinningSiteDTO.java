@@ -0,0 +1,37 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object describing one code location where virtual threads were pinned to their carrier thread,
+ * as reported by the /actuator/pinning endpoint.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "A code location where virtual threads blocked while pinned to their carrier thread")
+public class PinningSiteDTO {
+
+    @Schema(description = "Where the pinning happened: jdbc (inside the JDBC driver), pool (inside HikariCP) or other",
+            example = "jdbc")
+    private String source;
+
+    @Schema(description = "Innermost non-JDK stack frames, innermost first")
+    private List<String> frames;
+
+    @Schema(description = "Number of pinning events at this location", example = "42")
+    private long count;
+
+    @Schema(description = "Total time threads stayed pinned at this location, in milliseconds", example = "1310.5")
+    private double totalMillis;
+
+    @Schema(description = "Longest single pinning at this location, in milliseconds", example = "87.2")
+    private double maxMillis;
+}
@@ -0,0 +1,39 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object describing an asynchronous signup and, once written, its outcome.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder(toBuilder = true) // Lombok: Provides the Builder pattern
+@Schema(description = "State of an asynchronous signup")
+public class SignupJobDTO {
+
+    @Schema(description = "Identifier to poll the signup with", example = "0b5a7c3e-8f0e-4c1b-9d6a-2f1e0c9b7a11")
+    private UUID jobId;
+
+    @Schema(description = "Current state of the signup", example = "PENDING")
+    private SignupJobStatus status;
+
+    @Schema(description = "The created user; present only when status is CREATED", nullable = true)
+    private UserResponseDTO user;
+
+    @Schema(description = "Why the user was not created", example = "Username 'johndoe' already exists.", nullable = true)
+    private String message;
+
+    @Schema(description = "When the signup was accepted")
+    private OffsetDateTime acceptedAt;
+
+    @Schema(description = "When the outcome was determined; null while pending", nullable = true)
+    private OffsetDateTime completedAt;
+}
@@ -0,0 +1,15 @@
+package com.ums.core.user_management_system.dto;
+
+/**
+ * State of an asynchronous signup.
+ */
+public enum SignupJobStatus {
+    /** Accepted and waiting to be written. */
+    PENDING,
+    /** The user was created. */
+    CREATED,
+    /** The username or email was taken by the time the signup was written. */
+    DUPLICATE,
+    /** The signup could not be stored; the client should submit it again. */
+    FAILED
+}
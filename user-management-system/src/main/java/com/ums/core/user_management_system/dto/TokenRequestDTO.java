@@ -0,0 +1,29 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for exchanging username and password for an access token.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "Data Transfer Object for requesting an access token")
+public class TokenRequestDTO {
+
+    @NotBlank(message = "Username cannot be blank")
+    @Schema(description = "Username", example = "johndoe", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String username;
+
+    @NotBlank(message = "Password cannot be blank")
+    @ToString.Exclude // Never log the password
+    @Schema(description = "Password", example = "password123", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String password;
+}
@@ -0,0 +1,27 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an issued access token.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "Data Transfer Object for an issued access token")
+public class TokenResponseDTO {
+
+    @Schema(description = "Signed access token; send it as 'Authorization: Bearer <token>'")
+    private String accessToken;
+
+    @Schema(description = "Token type", example = "Bearer")
+    private String tokenType;
+
+    @Schema(description = "Seconds until the token expires", example = "900")
+    private long expiresIn;
+}
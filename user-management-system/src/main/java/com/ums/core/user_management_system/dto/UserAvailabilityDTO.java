@@ -0,0 +1,25 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object answering whether a username and/or email can still be registered.
+ * A field is null when the corresponding value was not asked for.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "Availability of a username and/or email for signup")
+public class UserAvailabilityDTO {
+
+    @Schema(description = "Whether the username is still free (case-insensitive); null if not asked", example = "true")
+    private Boolean usernameAvailable;
+
+    @Schema(description = "Whether the email is still free (case-insensitive); null if not asked", example = "false")
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,30 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for creating many users in one request.
+ * Individual items are validated one by one so that a single bad item does not reject the whole batch.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "Data Transfer Object for creating many users in one request")
+public class UserBatchRequestDTO {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @NotEmpty(message = "Batch must contain at least one user")
+    @Size(max = MAX_BATCH_SIZE, message = "Batch cannot contain more than " + MAX_BATCH_SIZE + " users")
+    @Schema(description = "Users to create", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<UserRequestDTO> users;
+}
@@ -0,0 +1,32 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the response of a batch user creation request.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "Per-item results of a batch user creation request")
+public class UserBatchResponseDTO {
+
+    @Schema(description = "Number of users created", example = "98")
+    private int created;
+
+    @Schema(description = "Number of items rejected as duplicates", example = "1")
+    private int duplicates;
+
+    @Schema(description = "Number of items rejected as invalid", example = "1")
+    private int invalid;
+
+    @Schema(description = "One result per request item, in request order")
+    private List<BatchItemResultDTO> results;
+}
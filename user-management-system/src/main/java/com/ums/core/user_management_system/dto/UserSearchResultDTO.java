@@ -0,0 +1,30 @@
+package com.ums.core.user_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for one typeahead search match.
+ * Deliberately small: instances are held in memory for every user by the search index.
+ */
+@Data // Lombok: Generates getters, setters, toString, equals, hashCode
+@NoArgsConstructor // Lombok: Generates no-args constructor
+@AllArgsConstructor // Lombok: Generates all-args constructor
+@Builder // Lombok: Provides the Builder pattern
+@Schema(description = "A user matching a search prefix")
+public class UserSearchResultDTO {
+
+    @Schema(description = "Unique identifier for the user (UUID)", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Unique username", example = "johndoe")
+    private String username;
+
+    @Schema(description = "Unique email address", example = "john.doe@example.com")
+    private String email;
+}
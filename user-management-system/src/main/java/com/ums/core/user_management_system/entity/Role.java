@@ -1,6 +1,55 @@
 package com.ums.core.user_management_system.entity;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * User roles. A user's roles are stored as a bitmask in app_users.roles;
+ * the bit values are persisted and must never change (append new roles with the next free bit).
+ */
 public enum Role {
-    ADMIN,
-    USER
+    ADMIN(1),
+    USER(1 << 1);
+
+    /** Number of distinct role combinations, i.e. every valid mask is below this value. */
+    public static final int MASK_COMBINATIONS = 1 << values().length;
+
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * @param roles Roles to encode; null is treated as empty.
+     * @return The bitmask of the given roles.
+     */
+    public static int toMask(Collection<Role> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (Role role : roles) {
+                mask |= role.bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @param mask A bitmask as stored in app_users.roles; unknown bits are ignored.
+     * @return A new mutable set of the encoded roles.
+     */
+    public static Set<Role> fromMask(int mask) {
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : values()) {
+            if ((mask & role.bit) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
 }
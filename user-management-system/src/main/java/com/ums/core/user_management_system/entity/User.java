@@ -1,10 +1,16 @@
 package com.ums.core.user_management_system.entity;
 
+import com.ums.core.user_management_system.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.OffsetDateTime;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 
@@ -14,12 +20,23 @@ import java.util.UUID;
 @Entity
 @Table(name = "app_users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username",  name = "uk_users_username"),
-        @UniqueConstraint(columnNames = "email", name = "uk_users_email")
+        @UniqueConstraint(columnNames = "email", name = "uk_users_email"),
+        @UniqueConstraint(columnNames = "username_normalized", name = "uk_users_username_normalized")
 })
 @Builder
+// Second-level cache regions, only used when ums.hibernate-cache.enabled=true; the cache is off by default
+// (see HibernateCacheConfig)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User {
+    public static final String CACHE_REGION = "hibernate.users.byId";
+    public static final String NATURAL_ID_CACHE_REGION = "hibernate.users.byUsername";
+
+    // UUIDv7, assigned before insert: time-ordered, so inserts append to the primary key index.
+    // Rows created earlier keep their random (v4) ids; both live side by side in the uuid column.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(columnDefinition = "uuid", updatable = false, nullable = false)
     private UUID id;
 
@@ -27,6 +44,12 @@ public class User {
     private String email;
     @Column(nullable = false, length = 100, unique = true)
     private String username;
+    // Natural id for case-insensitive lookups. The column is generated by PostgreSQL as LOWER(username) (see V7);
+    // the copy set on persist lets Hibernate cache the natural id of a new user without reading it back.
+    @NaturalId
+    @Column(name = "username_normalized", length = 100, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private String usernameNormalized;
     @Column(nullable = false)
     private String password;
     @Column(name = "first_name", length = 50)
@@ -48,15 +71,43 @@ public class User {
     @Builder.Default
     private OffsetDateTime updatedAt = OffsetDateTime.now();
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "role")
-    private Set<Role> roles = new HashSet<>();
+    // Stored as a bitmask column (see Role#bit()), so loading a user never touches a second table
+    @Builder.Default
+    @Convert(converter = RoleSetConverter.class)
+    @Column(name = "roles", nullable = false)
+    private Set<Role> roles = EnumSet.noneOf(Role.class);
 
     // --- Lifecycle Callbacks ---
 
+    // Stamped at insert rather than at construction: creating a user hashes the password first
+    @PrePersist
+    protected void onCreate() {
+        this.usernameNormalized = normalizeUsername(username);
+        this.updatedAt = OffsetDateTime.now();
+    }
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = OffsetDateTime.now();
     }
+
+    /**
+     * Normalizes a username the way usernames are compared: case-insensitively.
+     *
+     * @param username A username as entered.
+     * @return The lower-cased username, or null for null.
+     */
+    public static String normalizeUsername(String username) {
+        return username == null ? null : username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes an email the way emails are compared: case-insensitively, like usernames.
+     *
+     * @param email An email as entered.
+     * @return The lower-cased email, or null for null.
+     */
+    public static String normalizeEmail(String email) {
+        return normalizeUsername(email);
+    }
 }
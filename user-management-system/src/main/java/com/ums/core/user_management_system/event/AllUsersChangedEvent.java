@@ -0,0 +1,8 @@
+package com.ums.core.user_management_system.event;
+
+/**
+ * Application event published when changes to any number of users may have gone unnoticed,
+ * e.g. after the invalidation bus lost its connection. Listeners drop every cached user.
+ */
+public record AllUsersChangedEvent() {
+}
@@ -0,0 +1,326 @@
+package com.ums.core.user_management_system.event;
+
+import com.ums.core.user_management_system.config.CacheInvalidationProperties;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Propagates user changes between application nodes over PostgreSQL LISTEN/NOTIFY, so that the in-process
+ * caches (users by ID, UserDetails) of every replica are evicted within milliseconds of a write.
+ *
+ * Local {@link UserChangedEvent}s are broadcast with {@code pg_notify} on a pooled connection. A dedicated,
+ * unpooled connection per node LISTENs on the channel; notifications arriving within the coalesce window are
+ * de-duplicated by user ID and re-published locally as remote UserChangedEvents. A {@link UsersCreatedEvent}
+ * is sent as a few notifications of up to {@value #MAX_IDS_PER_NOTIFICATION} IDs each; the receiving node reads
+ * all users created within the window in one query and re-publishes them as one remote UsersCreatedEvent.
+ * Notifications sent by this node itself are ignored. NOTIFY is not durable: whenever the listener connection had to be re-established,
+ * an {@link AllUsersChangedEvent} is published so that changes missed in the meantime cannot leave stale entries.
+ */
+@Slf4j
+public class PostgresUserChangeBus implements SmartLifecycle {
+
+    /**
+     * Opens the dedicated listener connection. It is held for the lifetime of the node and must not come from
+     * the application's pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    // Keeps a payload of IDs (37 characters each) below PostgreSQL's limit of 8000 bytes
+    static final int MAX_IDS_PER_NOTIFICATION = 200;
+    private static final String CREATED = "created";
+
+    private final CacheInvalidationProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserExportRepository userExportRepository;
+    private final ConnectionFactory listenerConnectionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    // Distinguishes this node's own notifications from those of other nodes
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile Connection listenerConnection;
+    private Thread listenerThread;
+
+    public PostgresUserChangeBus(CacheInvalidationProperties properties, JdbcTemplate jdbcTemplate,
+                                 UserExportRepository userExportRepository,
+                                 ConnectionFactory listenerConnectionFactory, ApplicationEventPublisher eventPublisher) {
+        if (!CHANNEL_NAME.matcher(properties.channel()).matches()) {
+            throw new IllegalArgumentException("Invalid NOTIFY channel name: " + properties.channel());
+        }
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userExportRepository = userExportRepository;
+        this.listenerConnectionFactory = listenerConnectionFactory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Broadcasts a change made on this node. Failures are logged only: the other nodes' cache TTLs still
+     * bound how long they serve the old state.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", properties.channel(), encode(nodeId, event));
+        } catch (DataAccessException ex) {
+            log.warn("Could not broadcast change of user {}: {}", event.id(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Broadcasts users created on this node, a few hundred IDs per notification. Failures are logged only,
+     * as for single changes; the other nodes' indexes then pick the users up with their next rebuild.
+     */
+    @EventListener
+    public void onUsersCreated(UsersCreatedEvent event) {
+        if (event.remote() || event.users().isEmpty()) {
+            return;
+        }
+        try {
+            for (String payload : encodeCreated(nodeId, event)) {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", properties.channel(), payload);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not broadcast creation of {} users: {}", event.users().size(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "user-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            closeQuietly(listenerConnection); // Unblocks a pending read
+            try {
+                listenerThread.join(TimeUnit.SECONDS.toMillis(VALIDATION_TIMEOUT_SECONDS));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean mayHaveMissedChanges = false;
+        while (running) {
+            try (Connection connection = listenerConnectionFactory.connect()) {
+                if (!connection.isWrapperFor(PGConnection.class)) {
+                    log.error("Cache invalidation bus requires PostgreSQL; cross-node invalidation is disabled");
+                    running = false;
+                    return;
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+                listenerConnection = connection;
+                log.info("Listening for user changes on channel '{}'", properties.channel());
+                if (mayHaveMissedChanges) {
+                    log.info("Listener reconnected; evicting all cached users");
+                    eventPublisher.publishEvent(new AllUsersChangedEvent());
+                }
+                receive(connection, connection.unwrap(PGConnection.class));
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("User change listener connection failed ({}); retrying in {}",
+                        ex.getMessage(), properties.reconnectDelay());
+            } finally {
+                listenerConnection = null;
+            }
+            mayHaveMissedChanges = true;
+            sleep(properties.reconnectDelay().toMillis());
+        }
+    }
+
+    private void receive(Connection connection, PGConnection pgConnection) throws SQLException {
+        int idleMillis = (int) properties.validationInterval().toMillis();
+        long coalesceNanos = properties.coalesceWindow().toNanos();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(idleMillis);
+            if (notifications == null || notifications.length == 0) {
+                // Nothing arrived for a while: make sure we are still connected rather than silently deaf
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("listener connection is no longer valid");
+                }
+                continue;
+            }
+            Map<UUID, String> changedUsers = new LinkedHashMap<>();
+            Set<UUID> createdUsers = new LinkedHashSet<>();
+            collect(notifications, changedUsers, createdUsers);
+            long deadline = System.nanoTime() + coalesceNanos;
+            long remainingMillis;
+            while ((remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                collect(pgConnection.getNotifications((int) remainingMillis), changedUsers, createdUsers);
+            }
+            if (!createdUsers.isEmpty()) {
+                publishCreated(createdUsers);
+            }
+            log.debug("Evicting {} user(s) changed on other nodes", changedUsers.size());
+            changedUsers.forEach((id, username) -> eventPublisher.publishEvent(new UserChangedEvent(id, username, true)));
+        }
+    }
+
+    private void collect(PGNotification[] notifications, Map<UUID, String> changedUsers, Set<UUID> createdUsers) {
+        if (notifications == null) {
+            return;
+        }
+        for (PGNotification notification : notifications) {
+            List<UUID> created = decodeCreated(notification.getParameter());
+            if (created != null) {
+                createdUsers.addAll(created);
+                continue;
+            }
+            UserChangedEvent event = decode(notification.getParameter());
+            if (event != null) {
+                changedUsers.put(event.id(), event.username());
+            }
+        }
+    }
+
+    private void publishCreated(Set<UUID> ids) {
+        List<UserSearchResultDTO> users;
+        try {
+            users = userExportRepository.findSearchKeys(ids);
+        } catch (DataAccessException ex) {
+            log.warn("Could not read {} user(s) created on other nodes ({}); rebuilding all indexes",
+                    ids.size(), ex.getMessage());
+            eventPublisher.publishEvent(new AllUsersChangedEvent());
+            return;
+        }
+        log.debug("Indexing {} user(s) created on other nodes", users.size());
+        eventPublisher.publishEvent(new UsersCreatedEvent(users, true));
+    }
+
+    /**
+     * Payload format: {@code <node id> <user id> <username>}. Both IDs are fixed-length UUIDs, so the
+     * username may contain any character.
+     */
+    static String encode(String nodeId, UserChangedEvent event) {
+        return nodeId + ' ' + event.id() + ' ' + event.username();
+    }
+
+    /**
+     * Payload format for created users: {@code <node id> created <user id> <user id> ...}, split into
+     * payloads of at most {@value #MAX_IDS_PER_NOTIFICATION} IDs.
+     */
+    static List<String> encodeCreated(String nodeId, UsersCreatedEvent event) {
+        List<String> payloads = new ArrayList<>();
+        List<UserSearchResultDTO> users = event.users();
+        for (int from = 0; from < users.size(); from += MAX_IDS_PER_NOTIFICATION) {
+            int to = Math.min(from + MAX_IDS_PER_NOTIFICATION, users.size());
+            StringBuilder payload = new StringBuilder(nodeId).append(' ').append(CREATED);
+            for (UserSearchResultDTO user : users.subList(from, to)) {
+                payload.append(' ').append(user.getId());
+            }
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * Decodes a created-users payload.
+     *
+     * @return The IDs of users created on another node, an empty list if the payload came from this node,
+     * or null if it is not a created-users payload.
+     */
+    List<UUID> decodeCreated(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length < 3 || !parts[1].equals(CREATED)) {
+            return null;
+        }
+        if (parts[0].equals(nodeId)) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(parts.length - 2);
+        try {
+            for (int i = 2; i < parts.length; i++) {
+                ids.add(UUID.fromString(parts[i]));
+            }
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed created-users notification: {}", payload);
+            return List.of();
+        }
+        return ids;
+    }
+
+    /**
+     * Decodes a payload sent by another node.
+     *
+     * @return The remote change, or null if the payload came from this node or is malformed.
+     */
+    UserChangedEvent decode(String payload) {
+        String[] parts = payload.split(" ", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return null;
+        }
+        try {
+            return new UserChangedEvent(UUID.fromString(parts[1]), parts[2], true);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed user change notification: {}", payload);
+            return null;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Shutting down anyway
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ums.core.user_management_system.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published whenever a user row is created or modified
+ * (e.g. deactivated or given a new password). Listeners use it to evict cached copies of the user.
+ *
+ * @param id       ID of the changed user.
+ * @param username Username of the changed user.
+ * @param remote   True if the change was made on another node and arrived over the invalidation bus;
+ *                 such events are applied locally but not broadcast again.
+ */
+public record UserChangedEvent(UUID id, String username, boolean remote) {
+
+    /**
+     * Creates an event for a change made on this node.
+     */
+    public UserChangedEvent(UUID id, String username) {
+        this(id, username, false);
+    }
+}
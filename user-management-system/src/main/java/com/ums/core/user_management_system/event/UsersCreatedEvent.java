@@ -0,0 +1,24 @@
+package com.ums.core.user_management_system.event;
+
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+
+import java.util.List;
+
+/**
+ * Application event published once for users created together (e.g. by a batch signup), carrying their ID,
+ * username and email so listeners such as the search index can add them without reading each one back.
+ * Caches do not listen: they never hold an entry for a user that did not exist yet.
+ *
+ * @param users  ID, username and email of every created user.
+ * @param remote True if the users were created on another node and arrived over the invalidation bus;
+ *               such events are applied locally but not broadcast again.
+ */
+public record UsersCreatedEvent(List<UserSearchResultDTO> users, boolean remote) {
+
+    /**
+     * Creates an event for users created on this node.
+     */
+    public UsersCreatedEvent(List<UserSearchResultDTO> users) {
+        this(users, false);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ums.core.user_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a token is requested with an unknown username, a wrong password
+ * or for a disabled account. The message deliberately does not say which.
+ *
+ * Annotated with @ResponseStatus(HttpStatus.UNAUTHORIZED) so that Spring MVC
+ * automatically returns an HTTP 401 status code.
+ */
+@ResponseStatus(value = HttpStatus.UNAUTHORIZED)
+public class InvalidCredentialsException extends RuntimeException {
+
+    /**
+     * Constructor accepting a message and the underlying cause.
+     *
+     * @param message The descriptive message.
+     * @param cause   The underlying exception that caused this one.
+     */
+    public InvalidCredentialsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ums.core.user_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a pagination cursor supplied by the client
+ * cannot be decoded (tampered, truncated, or produced by an incompatible version).
+ *
+ * Annotated with @ResponseStatus(HttpStatus.BAD_REQUEST) so that Spring MVC
+ * automatically returns an HTTP 400 Bad Request status code.
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructor accepting a message and the underlying cause.
+     *
+     * @param message The descriptive message.
+     * @param cause   The underlying exception that caused this one.
+     */
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
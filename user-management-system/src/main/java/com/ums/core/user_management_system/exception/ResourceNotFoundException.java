@@ -0,0 +1,23 @@
+package com.ums.core.user_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a requested resource (e.g. a user looked up by ID) does not exist.
+ *
+ * Annotated with @ResponseStatus(HttpStatus.NOT_FOUND) so that Spring MVC
+ * automatically returns an HTTP 404 Not Found status code.
+ */
+@ResponseStatus(value = HttpStatus.NOT_FOUND)
+public class ResourceNotFoundException extends RuntimeException {
+
+    /**
+     * Constructor accepting a message identifying the missing resource.
+     *
+     * @param message A descriptive message naming the resource that was not found.
+     */
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ums.core.user_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a search arrives before the in-memory search index has been built,
+ * i.e. shortly after startup.
+ *
+ * Annotated with @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) so that Spring MVC
+ * automatically returns an HTTP 503 status code; clients should retry shortly.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class SearchIndexNotReadyException extends RuntimeException {
+
+    /**
+     * Constructor accepting a message explaining the unavailability.
+     *
+     * @param message The descriptive message.
+     */
+    public SearchIndexNotReadyException(String message) {
+        super(message);
+    }
+}
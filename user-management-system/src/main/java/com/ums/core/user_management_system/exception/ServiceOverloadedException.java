@@ -0,0 +1,34 @@
+package com.ums.core.user_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a bounded internal resource (e.g. the password hashing executor or the
+ * asynchronous signup queue) is saturated and the request is shed instead of queued.
+ *
+ * Annotated with @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) so that Spring MVC
+ * automatically returns an HTTP 503 status code; clients should retry with backoff.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * Constructor accepting a message.
+     *
+     * @param message The descriptive message.
+     */
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor accepting a message and the underlying cause.
+     *
+     * @param message The descriptive message.
+     * @param cause   The underlying exception that caused this one.
+     */
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
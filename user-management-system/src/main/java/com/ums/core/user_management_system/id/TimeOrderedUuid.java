@@ -0,0 +1,18 @@
+package com.ums.core.user_management_system.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity identifier that is assigned a UUIDv7 (see UuidV7Generator) in the application before insert.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which produces random version 4 UUIDs.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,86 @@
+package com.ums.core.user_management_system.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered UUIDs (version 7, RFC 9562).
+ *
+ * Layout: 48 bits of Unix epoch milliseconds, the version, a 12-bit counter (rand_a), the variant and
+ * 62 random bits. Values from one generator are strictly increasing, so new primary keys always land
+ * at the right edge of the btree instead of on a random leaf page.
+ *
+ * Monotonicity is kept by one AtomicLong holding the last (millisecond, counter) pair, advanced with
+ * compare-and-set; there is no lock. The counter starts at a random value in the lower half of its range in
+ * every new millisecond; if it overflows (more than ~2048 ids in one millisecond), or the clock steps back, the
+ * timestamp is advanced past the clock instead, as RFC 9562 allows.
+ *
+ * The random bits come from a SecureRandom shared by all threads, as in {@link UUID#randomUUID()}, so the ids
+ * of other users cannot be predicted from one's own. A SecureRandom per thread would be seeded again for every
+ * virtual thread. The ids are unique and hard to enumerate, but not secret: they reveal their creation time.
+ */
+public final class UuidV7Generator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final long RANDOM_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final UuidV7Generator SYSTEM = new UuidV7Generator(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    /**
+     * @param clock Source of Unix epoch milliseconds.
+     */
+    public UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return A new id from the JVM-wide generator on the system clock.
+     */
+    public static UUID next() {
+        return SYSTEM.generate();
+    }
+
+    /**
+     * @return The Unix epoch milliseconds encoded in a version 7 UUID.
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * @return A new id, greater than every id this generator returned before.
+     */
+    public UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION_7
+                | (timestampAndCounter & COUNTER_MASK);
+        long leastSignificantBits = VARIANT_RFC | (RANDOM.nextLong() & RANDOM_B_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextTimestampAndCounter() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long next = now > (last | COUNTER_MASK)
+                    ? now | RANDOM.nextLong(COUNTER_MASK >>> 1) // New millisecond
+                    : last + 1; // Same millisecond (or clock behind): count on, carrying into the timestamp
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ums.core.user_management_system.pagination;
+
+import com.ums.core.user_management_system.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the user listing, expressed as the (created_at, id) key of the last row
+ * a client has already seen. The next page starts strictly after this key, so each page
+ * is a bounded index range scan no matter how deep the client has paged.
+ *
+ * Clients only ever see the opaque, URL-safe string produced by {@link #encode()}.
+ *
+ * @param createdAt Creation timestamp of the last row returned.
+ * @param id        ID of the last row returned (tie-breaker for equal timestamps).
+ */
+public record UserCursor(OffsetDateTime createdAt, UUID id) {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this cursor into an opaque token safe to pass in a query string.
+     *
+     * @return The Base64URL encoded cursor.
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + createdAt.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token The opaque cursor received from the client.
+     * @return The decoded cursor.
+     * @throws InvalidCursorException if the token is malformed.
+     */
+    public static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            OffsetDateTime createdAt = Instant.parse(parts[1]).atOffset(ZoneOffset.UTC);
+            return new UserCursor(createdAt, UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Invalid pagination cursor.", ex);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking, read-only queries over R2DBC against the same app_users table the JPA repositories write.
+ * Results are emitted as subscribers request them: rows are fetched from the server in chunks of
+ * {@link #FETCH_SIZE} and reading stops while downstream demand is exhausted, so a slow client
+ * cannot make the server buffer a large result.
+ */
+@Repository
+public class ReactiveUserRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    // The password column is deliberately not selected so it never leaves the database.
+    private static final String COLUMNS =
+            "id, username, email, first_name, last_name, phone_number, is_active, created_at, updated_at";
+
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM app_users ORDER BY created_at, id";
+
+    private static final String FIND_FIRST_SQL = FIND_ALL_SQL + " LIMIT :limit";
+
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM app_users WHERE id = :id";
+
+    // Served by idx_users_username_lower_pattern (V6)
+    private static final String SEARCH_BY_USERNAME_SQL = "SELECT " + COLUMNS + " FROM app_users"
+            + " WHERE LOWER(username) LIKE :pattern ORDER BY LOWER(username) LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Streams every user in (created_at, id) order.
+     */
+    public Flux<UserResponseDTO> findAll() {
+        return databaseClient.sql(FIND_ALL_SQL)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveUserRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * Streams the first users in (created_at, id) order.
+     *
+     * @param limit Maximum number of users.
+     */
+    public Flux<UserResponseDTO> findFirst(int limit) {
+        return databaseClient.sql(FIND_FIRST_SQL)
+                .bind("limit", limit)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveUserRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * Looks up a single user by primary key.
+     *
+     * @return The user, or an empty Mono if there is none.
+     */
+    public Mono<UserResponseDTO> findById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID_SQL)
+                .bind("id", id)
+                .map(ReactiveUserRepository::toResponse)
+                .one();
+    }
+
+    /**
+     * Finds users whose lower-cased username matches a LIKE pattern, ordered by username.
+     *
+     * @param pattern Lower-case LIKE pattern, e.g. {@code jo%}; wildcards in user input must already be escaped.
+     * @param limit   Maximum number of users.
+     */
+    public Flux<UserResponseDTO> findByUsernameLike(String pattern, int limit) {
+        return databaseClient.sql(SEARCH_BY_USERNAME_SQL)
+                .bind("pattern", pattern)
+                .bind("limit", limit)
+                .map(ReactiveUserRepository::toResponse)
+                .all();
+    }
+
+    private static UserResponseDTO toResponse(Readable row) {
+        return UserResponseDTO.builder()
+                .id(row.get("id", UUID.class))
+                .username(row.get("username", String.class))
+                .email(row.get("email", String.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .phoneNumber(row.get("phone_number", String.class))
+                .active(Boolean.TRUE.equals(row.get("is_active", Boolean.class)))
+                .createdAt(row.get("created_at", OffsetDateTime.class))
+                .updatedAt(row.get("updated_at", OffsetDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ums.core.user_management_system.repository;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps unique-constraint violations on app_users back to the field that caused them.
+ *
+ * Covers the constraint names of every schema variant in use: the Flyway V1 defaults
+ * (app_users_username_key / app_users_email_key), the JPA-declared names
+ * (uk_users_username / uk_users_email), the case-insensitive indexes from V3
+ * (uk_users_username_lower / uk_users_email_lower) and the natural-id index from V7
+ * (uk_users_username_normalized).
+ */
+public final class UserConstraintViolations {
+
+    /**
+     * A unique field of the User entity.
+     */
+    public enum UniqueField {
+        USERNAME,
+        EMAIL
+    }
+
+    // PostgreSQL: ...violates unique constraint "uk_users_email_lower"; H2: ...ON PUBLIC.APP_USERS(EMAIL NULLS FIRST)...
+    private static final Pattern CONSTRAINT_IN_MESSAGE = Pattern.compile(
+            "unique constraint \"([^\"]+)\"|APP_USERS\\((\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private UserConstraintViolations() {
+    }
+
+    /**
+     * Determines which unique field a failed insert/update collided on.
+     *
+     * @param ex The exception translated by Spring from the JDBC/Hibernate error.
+     * @return The violated field, or empty if the violation is not a username/email uniqueness conflict.
+     */
+    public static Optional<UniqueField> violatedUniqueField(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException cve && cve.getConstraintName() != null) {
+                Optional<UniqueField> field = fieldFor(cve.getConstraintName());
+                if (field.isPresent()) {
+                    return field;
+                }
+            }
+        }
+        // Constraint name missing or generated (e.g. H2's CONSTRAINT_INDEX_n): extract it from the driver message.
+        // Only the constraint/index part is inspected, since the message also echoes the INSERT column list.
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            Matcher matcher = CONSTRAINT_IN_MESSAGE.matcher(String.valueOf(cause.getMessage()));
+            if (matcher.find()) {
+                return fieldFor(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<UniqueField> fieldFor(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.contains("username")) {
+            return Optional.of(UniqueField.USERNAME);
+        }
+        if (lower.contains("email")) {
+            return Optional.of(UniqueField.EMAIL);
+        }
+        return Optional.empty();
+    }
+}
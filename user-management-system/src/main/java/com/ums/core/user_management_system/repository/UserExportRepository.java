@@ -0,0 +1,93 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC repository used for bulk exports and for loading the search index.
+ * Rows are read through a forward-only cursor with a fixed fetch size and handed to the
+ * caller one at a time, so heap usage stays constant regardless of table size.
+ * Note: PostgreSQL only honours the fetch size inside a transaction (autocommit off).
+ */
+@Repository
+public class UserExportRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    // The password column is deliberately not selected so it never leaves the database.
+    private static final String EXPORT_SQL = """
+            SELECT id, username, email, first_name, last_name, phone_number, is_active, created_at, updated_at
+            FROM app_users
+            ORDER BY created_at, id""";
+
+    private static final String SEARCH_KEYS_SQL = "SELECT id, username, email FROM app_users";
+
+    private static final String SEARCH_KEYS_BY_ID_SQL = SEARCH_KEYS_SQL + " WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Streams every user row, in (created_at, id) order, to the given consumer.
+     *
+     * @param consumer Receives one DTO per row; must not retain references if memory is a concern.
+     */
+    public void streamAll(Consumer<UserResponseDTO> consumer) {
+        jdbcTemplate.query(EXPORT_SQL, rs -> {
+            consumer.accept(UserResponseDTO.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .username(rs.getString("username"))
+                    .email(rs.getString("email"))
+                    .firstName(rs.getString("first_name"))
+                    .lastName(rs.getString("last_name"))
+                    .phoneNumber(rs.getString("phone_number"))
+                    .active(rs.getBoolean("is_active"))
+                    .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+                    .updatedAt(rs.getObject("updated_at", OffsetDateTime.class))
+                    .build());
+        });
+    }
+
+    /**
+     * Streams the ID, username and email of every user, in no particular order, to the given consumer.
+     *
+     * @param consumer Receives one DTO per row.
+     */
+    public void streamSearchKeys(Consumer<UserSearchResultDTO> consumer) {
+        jdbcTemplate.query(SEARCH_KEYS_SQL, rs -> {
+            consumer.accept(new UserSearchResultDTO(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("username"),
+                    rs.getString("email")));
+        });
+    }
+
+    /**
+     * Returns the ID, username and email of the given users in one query, served by the primary key.
+     * Unknown IDs are skipped.
+     *
+     * @param ids IDs of the users.
+     * @return One DTO per existing user, in no particular order.
+     */
+    public List<UserSearchResultDTO> findSearchKeys(Collection<UUID> ids) {
+        return jdbcTemplate.query(SEARCH_KEYS_BY_ID_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                (rs, rowNum) -> new UserSearchResultDTO(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("username"),
+                        rs.getString("email")));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Lookups of User entities by their natural id, the normalized username.
+ * Implemented by UserNaturalIdRepositoryImpl; part of UserRepository.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Finds a user by their username (case-insensitive).
+     *
+     * @param username The username to search for.
+     * @return An Optional containing the user if found, otherwise empty.
+     */
+    Optional<User> findByUsernameIgnoreCase(String username);
+}
@@ -0,0 +1,58 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import java.util.Optional;
+
+/**
+ * Loads users through Hibernate's natural-id API. With the second-level cache enabled (see HibernateCacheConfig)
+ * a repeated lookup resolves username to ID from the natural-id region and the user from the entity region,
+ * without a query; otherwise it is a single select served by uk_users_username_normalized.
+ *
+ * Not @Transactional: a cache hit must not check out a pooled connection. The lookup joins the current
+ * persistence context if there is one and otherwise uses its own, the way the shared EntityManager would.
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    UserNaturalIdRepositoryImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public Optional<User> findByUsernameIgnoreCase(String username) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            return findByUsernameIgnoreCase(entityManager, username);
+        }
+        try (EntityManager ownEntityManager = entityManagerFactory.createEntityManager()) {
+            return findByUsernameIgnoreCase(ownEntityManager, username);
+        }
+    }
+
+    private static Optional<User> findByUsernameIgnoreCase(EntityManager entityManager, String username) {
+        String normalized = User.normalizeUsername(username);
+        User user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .load(normalized);
+        if (user == null && !isAscii(normalized)) {
+            // Beyond ASCII, Java's lower-casing may differ from the database's LOWER() (it depends on the
+            // collation), so a miss is confirmed by letting the database normalize the username itself.
+            return entityManager.createQuery("SELECT u FROM User u WHERE u.usernameNormalized = LOWER(:username)",
+                            User.class)
+                    .setParameter("username", username)
+                    .getResultStream()
+                    .findFirst();
+        }
+        return Optional.ofNullable(user);
+    }
+
+    private static boolean isAscii(String value) {
+        return value.chars().allMatch(c -> c < 0x80);
+    }
+}
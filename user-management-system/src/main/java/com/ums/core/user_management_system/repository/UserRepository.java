@@ -1,49 +1,50 @@
 package com.ums.core.user_management_system.repository;
 
+import com.ums.core.user_management_system.dto.UserResponseDTO;
 import com.ums.core.user_management_system.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    /**
-     * Finds a user by their username (case-insensitive).
-     * Uses Spring Data JPA derived query.
-     *
-     * @param username The username to search for.
-     * @return An Optional containing the user if found, otherwise empty.
-     */
-    Optional<User> findByUsernameIgnoreCase(String username);
-
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository, UserRolePageRepository {
     /**
      * Finds a user by their email address (case-insensitive).
-     * Uses Spring Data JPA derived query.
+     * Uses LOWER() so the lookup is served by the uk_users_email_lower expression index.
      *
      * @param email The email address to search for.
      * @return An Optional containing the user if found, otherwise empty.
      */
-    Optional<User> findByEmailIgnoreCase(String email);
+    @Query("SELECT u FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
 
     /**
      * Checks if a user exists with the given username (case-insensitive) using a native SQL query.
      * More efficient than findByUsername if only existence check is needed.
+     * Served by the uk_users_username_normalized index.
      * Note: Using native queries ties the repository more closely to the specific database (PostgreSQL here).
      *
      * @param username The username to check.
      * @return true if a user exists, false otherwise.
      */
-    @Query(value = "SELECT EXISTS (SELECT 1 FROM app_users WHERE LOWER(username) = LOWER(:username))",
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM app_users WHERE username_normalized = LOWER(:username))",
             nativeQuery = true) // Indicate this is a native SQL query
     boolean existsByUsernameIgnoreCase(@Param("username") String username); // Use @Param to bind method parameter to query parameter
 
     /**
      * Checks if a user exists with the given email address (case-insensitive) using a native SQL query.
      * More efficient than findByEmail if only existence check is needed.
+     * Served by the uk_users_email_lower expression index.
      *
      * @param email The email address to check.
      * @return true if a user exists, false otherwise.
@@ -51,4 +52,93 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query(value = "SELECT EXISTS (SELECT 1 FROM app_users WHERE LOWER(email) = LOWER(:email))",
             nativeQuery = true) // Indicate this is a native SQL query
     boolean existsByEmailIgnoreCase(@Param("email") String email); // Use @Param to bind method paramete
+
+    /**
+     * JPQL constructor expression that builds a UserResponseDTO straight from the selected columns.
+     * Read paths use it instead of loading User entities: the password hash is never selected and
+     * no managed entity, persistence-context entry or dirty-check snapshot is created per row.
+     */
+    String RESPONSE_DTO = "new com.ums.core.user_management_system.dto.UserResponseDTO("
+            + "u.id, u.username, u.email, u.firstName, u.lastName, u.phoneNumber, u.active, u.createdAt, u.updatedAt)";
+
+    /**
+     * Returns every user as a response DTO.
+     *
+     * @return All users.
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM User u")
+    List<UserResponseDTO> findAllResponses();
+
+    /**
+     * Returns a single user as a response DTO. Looked up by primary key.
+     *
+     * @param id ID of the user.
+     * @return An Optional containing the user if found, otherwise empty.
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM User u WHERE u.id = :id")
+    Optional<UserResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Returns the first page of users ordered by the keyset (createdAt, id).
+     *
+     * @param limit Maximum number of rows to return.
+     * @return Users in ascending (createdAt, id) order.
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM User u ORDER BY u.createdAt ASC, u.id ASC")
+    List<UserResponseDTO> findResponsePage(Limit limit);
+
+    /**
+     * Returns the users strictly after the given keyset position, ordered by (createdAt, id).
+     * The row-value comparison lets PostgreSQL seek directly into idx_users_created_at_id
+     * instead of skipping over an OFFSET, so every page costs the same.
+     *
+     * @param createdAt Creation timestamp of the last row already returned.
+     * @param id        ID of the last row already returned.
+     * @param limit     Maximum number of rows to return.
+     * @return Users in ascending (createdAt, id) order.
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM User u WHERE (u.createdAt, u.id) > (:createdAt, :id) "
+            + "ORDER BY u.createdAt ASC, u.id ASC")
+    List<UserResponseDTO> findResponsePageAfter(@Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id,
+                                                Limit limit);
+
+    /**
+     * Returns the version of the user directory, the value behind the list ETags.
+     * Every statement writing app_users bumps it in the same transaction (see the V5 migration), so it changes
+     * exactly when a change to the listing becomes visible. Reads the 16 rows of app_users_version.
+     *
+     * @return A value that differs whenever a committed write to app_users happened in between.
+     */
+    @Query(value = "SELECT COALESCE(SUM(version), 0) FROM app_users_version", nativeQuery = true)
+    long findDirectoryVersion();
+
+    /**
+     * Set-based duplicate check used by batch creation: returns the lower-cased (username, email)
+     * of every existing user whose username or email matches one of the given values.
+     * Both predicates are served by the lower-case indexes (bitmap OR).
+     *
+     * @param lowercaseUsernames Lower-cased usernames to check.
+     * @param lowercaseEmails    Lower-cased emails to check.
+     * @return Rows of [lower(username), lower(email)] for conflicting users.
+     */
+    @Query("SELECT u.usernameNormalized, LOWER(u.email) FROM User u " +
+            "WHERE u.usernameNormalized IN :usernames OR LOWER(u.email) IN :emails")
+    List<Object[]> findConflictingUsernamesAndEmails(@Param("usernames") Collection<String> lowercaseUsernames,
+                                                     @Param("emails") Collection<String> lowercaseEmails);
+
+    /**
+     * Replaces a user's password hash, but only if it still equals the hash the caller read.
+     * Used to upgrade hashes after login: a concurrent password change or a parallel upgrade wins.
+     *
+     * @param id              ID of the user.
+     * @param currentPassword The hash the new one was derived from.
+     * @param newPassword     The new hash.
+     * @return 1 if the hash was replaced, 0 if it had changed in the meantime.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") UUID id,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
 }
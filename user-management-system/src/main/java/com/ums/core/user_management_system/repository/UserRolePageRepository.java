@@ -0,0 +1,36 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.entity.Role;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset pages of the users holding a role.
+ * Implemented by UserRolePageRepositoryImpl; part of UserRepository.
+ */
+public interface UserRolePageRepository {
+
+    /**
+     * Returns the first users holding the given role, ordered by (createdAt, id).
+     *
+     * @param role  Role the users must hold.
+     * @param limit Maximum number of rows to return.
+     * @return Users in ascending (createdAt, id) order.
+     */
+    List<UserResponseDTO> findResponsePageByRole(Role role, Limit limit);
+
+    /**
+     * Role-filtered variant of {@link UserRepository#findResponsePageAfter}.
+     *
+     * @param role      Role the users must hold.
+     * @param createdAt Creation timestamp of the last row already returned.
+     * @param id        ID of the last row already returned.
+     * @param limit     Maximum number of rows to return.
+     * @return Users in ascending (createdAt, id) order.
+     */
+    List<UserResponseDTO> findResponsePageAfterByRole(Role role, OffsetDateTime createdAt, UUID id, Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.entity.Role;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters by the role's bit, e.g. {@code (roles & 2) <> 0} for USER, which is the predicate of that role's
+ * partial (created_at, id) index (see V4). The planner only uses a partial index when the query implies its
+ * predicate, so the bit is written into the query as a literal rather than bound: one query string per role.
+ * The index then returns the rows already in keyset order, so a page never needs a sort.
+ * The CAST exposes the converted Set&lt;Role&gt; attribute as its integer column; PostgreSQL drops the no-op cast.
+ */
+class UserRolePageRepositoryImpl implements UserRolePageRepository {
+
+    private final EntityManager entityManager;
+
+    UserRolePageRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<UserResponseDTO> findResponsePageByRole(Role role, Limit limit) {
+        return entityManager.createQuery("SELECT " + UserRepository.RESPONSE_DTO + " FROM User u WHERE "
+                        + holdsRole(role) + " ORDER BY u.createdAt ASC, u.id ASC", UserResponseDTO.class)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+
+    @Override
+    public List<UserResponseDTO> findResponsePageAfterByRole(Role role, OffsetDateTime createdAt, UUID id,
+                                                             Limit limit) {
+        return entityManager.createQuery("SELECT " + UserRepository.RESPONSE_DTO + " FROM User u WHERE "
+                        + holdsRole(role) + " AND (u.createdAt, u.id) > (:createdAt, :id) "
+                        + "ORDER BY u.createdAt ASC, u.id ASC", UserResponseDTO.class)
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+
+    private static String holdsRole(Role role) {
+        return "bitand(CAST(u.roles AS Integer), " + role.bit() + ") <> 0";
+    }
+}
@@ -0,0 +1,87 @@
+package com.ums.core.user_management_system.search;
+
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.entity.User;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over the lower-cased usernames and emails of all users.
+ *
+ * Each key space is a sorted map, so the matches for a prefix form one contiguous range: a search is a
+ * single O(log n) seek followed by reading at most {@code limit} entries, independent of directory size.
+ * Every user is held once as a {@link UserSearchResultDTO} (id, username, email) shared by both maps.
+ * Reads are lock-free; writes are serialized so that a user's keys in both maps change together.
+ */
+public class UserPrefixIndex {
+
+    private final NavigableMap<String, UserSearchResultDTO> byUsername = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, UserSearchResultDTO> byEmail = new ConcurrentSkipListMap<>();
+    private final Map<UUID, UserSearchResultDTO> byId = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a user, replacing any previous entry with the same ID (e.g. after a username change).
+     *
+     * @param user The user's ID, username and email.
+     */
+    public synchronized void put(UserSearchResultDTO user) {
+        remove(user.getId());
+        byId.put(user.getId(), user);
+        byUsername.put(User.normalizeUsername(user.getUsername()), user);
+        byEmail.put(User.normalizeEmail(user.getEmail()), user);
+    }
+
+    /**
+     * Removes a user, if present.
+     *
+     * @param id ID of the user.
+     */
+    public synchronized void remove(UUID id) {
+        UserSearchResultDTO previous = byId.remove(id);
+        if (previous != null) {
+            byUsername.remove(User.normalizeUsername(previous.getUsername()), previous);
+            byEmail.remove(User.normalizeEmail(previous.getEmail()), previous);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} users whose username or email starts with the prefix (case-insensitive).
+     * Username matches come first, each group in alphabetical order; a user matching both is listed once.
+     *
+     * @param prefix The prefix to match.
+     * @param limit  Maximum number of users to return.
+     * @return The matching users.
+     */
+    public List<UserSearchResultDTO> search(String prefix, int limit) {
+        String from = User.normalizeUsername(prefix);
+        String to = from + Character.MAX_VALUE;
+        Map<UUID, UserSearchResultDTO> matches = new LinkedHashMap<>();
+        collect(byUsername.subMap(from, true, to, false), limit, matches);
+        collect(byEmail.subMap(from, true, to, false), limit, matches);
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * @return Number of indexed users.
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    private static void collect(NavigableMap<String, UserSearchResultDTO> range, int limit,
+                                Map<UUID, UserSearchResultDTO> matches) {
+        for (UserSearchResultDTO user : range.values()) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.putIfAbsent(user.getId(), user);
+        }
+    }
+}
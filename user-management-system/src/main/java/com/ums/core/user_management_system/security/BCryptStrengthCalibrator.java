@@ -0,0 +1,66 @@
+package com.ums.core.user_management_system.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Picks the highest BCrypt strength whose hash time on this machine stays within a latency budget.
+ *
+ * Only the minimum strength is actually timed (median of a few runs after a warm-up); every further
+ * strength step doubles the work, so the remaining candidates are extrapolated. Startup therefore
+ * costs a handful of cheap hashes regardless of the strength finally chosen.
+ */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    static final int SAMPLES = 5;
+    private static final String PROBE_PASSWORD = "calibration-probe";
+
+    private final IntFunction<Duration> hashTimer;
+
+    public BCryptStrengthCalibrator() {
+        this(BCryptStrengthCalibrator::timeHash);
+    }
+
+    /**
+     * @param hashTimer Measures one hash at the given strength; replaceable for tests.
+     */
+    BCryptStrengthCalibrator(IntFunction<Duration> hashTimer) {
+        this.hashTimer = hashTimer;
+    }
+
+    /**
+     * @param target      Latency budget for one hash.
+     * @param minStrength Lower bound of the result.
+     * @param maxStrength Upper bound of the result.
+     * @return The chosen strength.
+     */
+    public int calibrate(Duration target, int minStrength, int maxStrength) {
+        hashTimer.apply(minStrength); // warm-up
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = hashTimer.apply(minStrength).toNanos();
+        }
+        Arrays.sort(samples);
+        long baseNanos = Math.max(1, samples[SAMPLES / 2]);
+
+        int strength = minStrength;
+        while (strength < maxStrength && baseNanos << (strength + 1 - minStrength) <= target.toNanos()) {
+            strength++;
+        }
+        log.info("BCrypt strength {} calibrated for a {} ms budget (strength {} measured at {} ms)",
+                strength, target.toMillis(), minStrength, Duration.ofNanos(baseNanos).toMillis());
+        return strength;
+    }
+
+    private static Duration timeHash(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(PROBE_PASSWORD);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
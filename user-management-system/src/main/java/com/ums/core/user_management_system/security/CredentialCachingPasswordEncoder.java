@@ -0,0 +1,111 @@
+package com.ums.core.user_management_system.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder decorator that remembers successful {@link #matches} results for a short time,
+ * so that clients authenticating with HTTP Basic on every request pay the BCrypt cost only once per TTL.
+ *
+ * Entries are keyed by HMAC-SHA256(encodedPassword, rawPassword) under a random key that exists only in
+ * this process, so neither the plaintext nor anything that can be brute-forced offline is kept.
+ * Because the stored hash is part of the key, a password change naturally misses the cache.
+ * Failed verifications are never cached.
+ *
+ * Initialized Mac instances are pooled rather than kept per thread: with virtual threads every request runs
+ * on a new thread, so a thread-local Mac would be created (and its key schedule computed) per request.
+ */
+public class CredentialCachingPasswordEncoder implements PasswordEncoder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final Cache<String, Boolean> verified;
+    private final SecretKeySpec key;
+    private final Queue<Mac> idleMacs = new ConcurrentLinkedQueue<>();
+
+    public CredentialCachingPasswordEncoder(PasswordEncoder delegate, long maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        String cacheKey = cacheKey(rawPassword, encodedPassword);
+        if (verified.getIfPresent(cacheKey) != null) {
+            return true;
+        }
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        if (matches) {
+            verified.put(cacheKey, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Drops every remembered verification (e.g. after a security incident).
+     */
+    public void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    /**
+     * @return The underlying cache, for metrics binding.
+     */
+    public Cache<String, Boolean> cache() {
+        return verified;
+    }
+
+    private String cacheKey(CharSequence rawPassword, String encodedPassword) {
+        Mac mac = idleMacs.poll();
+        if (mac == null) {
+            mac = newMac(); // The pool grows to the peak number of concurrent verifications
+        }
+        mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        byte[] digest = mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8)); // doFinal also resets
+        idleMacs.offer(mac);
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ums.core.user_management_system.security;
+
+import com.ums.core.user_management_system.service.PasswordUpgradeService;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * DaoAuthenticationProvider that upgrades outdated password hashes after a successful login.
+ *
+ * The stock provider re-hashes synchronously through a UserDetailsPasswordService, adding a full
+ * BCrypt computation to the login. Here the upgrade is handed to PasswordUpgradeService and runs
+ * in the background, so nodes can raise their work factor without a bulk migration.
+ */
+@Component
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final PasswordUpgradeService passwordUpgradeService;
+
+    public RehashingAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                                           PasswordUpgradeService passwordUpgradeService) {
+        super(passwordEncoder);
+        setUserDetailsService(userDetailsService);
+        this.passwordUpgradeService = passwordUpgradeService;
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+        if (user instanceof UserPrincipal userPrincipal
+                && authentication.getCredentials() != null
+                && getPasswordEncoder().upgradeEncoding(user.getPassword())) {
+            passwordUpgradeService.upgradeInBackground(userPrincipal, authentication.getCredentials().toString());
+        }
+        return super.createSuccessAuthentication(principal, authentication, user);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ums.core.user_management_system.security;
+
+import com.ums.core.user_management_system.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pre-built, immutable ROLE_ authority sets, one per possible role combination.
+ * Authenticating a user hands out a shared instance instead of allocating authorities per request.
+ */
+public final class RoleAuthorities {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final List<Set<GrantedAuthority>> BY_MASK = buildAll();
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * @param roles The user's roles; null is treated as empty.
+     * @return The shared authority set for exactly these roles.
+     */
+    public static Set<GrantedAuthority> of(Set<Role> roles) {
+        return BY_MASK.get(Role.toMask(roles));
+    }
+
+    private static List<Set<GrantedAuthority>> buildAll() {
+        GrantedAuthority[] byRole = new GrantedAuthority[Role.values().length];
+        for (Role role : Role.values()) {
+            byRole[role.ordinal()] = new SimpleGrantedAuthority(ROLE_PREFIX + role.name());
+        }
+        List<Set<GrantedAuthority>> all = new ArrayList<>(Role.MASK_COMBINATIONS);
+        for (int mask = 0; mask < Role.MASK_COMBINATIONS; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (Role role : Role.fromMask(mask)) {
+                authorities.add(byRole[role.ordinal()]);
+            }
+            all.add(Set.copyOf(authorities));
+        }
+        return List.copyOf(all);
+    }
+}
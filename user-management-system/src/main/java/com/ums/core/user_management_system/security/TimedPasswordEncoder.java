@@ -0,0 +1,60 @@
+package com.ums.core.user_management_system.security;
+
+import com.ums.core.user_management_system.timing.RequestTimings;
+import com.ums.core.user_management_system.timing.TimingPhase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncoder decorator that records how long the wrapped encoder takes, as the timer
+ * ums.password.bcrypt tagged operation=encode|matches.
+ * Wraps the BCrypt encoder itself, so verifications answered by CredentialCachingPasswordEncoder are not counted.
+ * Verifications also count towards the hash phase of the current request's Server-Timing; encoding runs on the
+ * hashing executor and is measured by its callers instead.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    public static final String METRIC_NAME = "ums.password.bcrypt";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent in BCrypt hashing and verification")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            matchesTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            RequestTimings.record(TimingPhase.HASH, elapsed); // Login checks run on the request thread
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
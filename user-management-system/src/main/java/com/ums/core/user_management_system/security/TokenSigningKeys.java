@@ -0,0 +1,137 @@
+package com.ums.core.user_management_system.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.ums.core.user_management_system.config.TokenProperties;
+import com.ums.core.user_management_system.config.TokenProperties.SigningKey;
+import org.springframework.core.io.Resource;
+import org.springframework.security.converter.RsaKeyConverters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The RSA keys used to sign and verify access tokens: one active key that signs new tokens,
+ * plus any number of older keys that are still accepted for verification.
+ */
+public final class TokenSigningKeys {
+
+    static final String EPHEMERAL_KEY_ID = "ephemeral";
+
+    private final RSAKey activeKey;
+    private final JWKSet verificationKeys;
+
+    private TokenSigningKeys(RSAKey activeKey, List<JWK> verificationKeys) {
+        this.activeKey = activeKey;
+        this.verificationKeys = new JWKSet(verificationKeys);
+    }
+
+    /**
+     * Loads the configured key files.
+     *
+     * @param properties Token settings with at least one key.
+     * @return The loaded keys.
+     * @throws IllegalStateException if a file cannot be read, or the active key is unknown or has no private key.
+     */
+    public static TokenSigningKeys load(TokenProperties properties) {
+        List<SigningKey> configured = properties.keys();
+        if (configured.isEmpty()) {
+            throw new IllegalStateException("No token signing keys configured");
+        }
+        String activeKeyId = properties.activeKeyId() != null ? properties.activeKeyId() : configured.get(0).id();
+
+        RSAKey active = null;
+        List<JWK> verification = new ArrayList<>();
+        for (SigningKey key : configured) {
+            RSAKey rsaKey = toRsaKey(key);
+            verification.add(rsaKey.toPublicJWK());
+            if (key.id().equals(activeKeyId)) {
+                active = rsaKey;
+            }
+        }
+        if (active == null || !active.isPrivate()) {
+            throw new IllegalStateException("Active token signing key '" + activeKeyId + "' is not configured with a private key");
+        }
+        return new TokenSigningKeys(active, verification);
+    }
+
+    /**
+     * Generates a throw-away key pair, for local runs without configured key files.
+     *
+     * @return Keys that only live as long as this process.
+     */
+    public static TokenSigningKeys ephemeral() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair pair = generator.generateKeyPair();
+            RSAKey key = new RSAKey.Builder((RSAPublicKey) pair.getPublic())
+                    .privateKey((RSAPrivateKey) pair.getPrivate())
+                    .keyID(EPHEMERAL_KEY_ID)
+                    .build();
+            return new TokenSigningKeys(key, List.of(key.toPublicJWK()));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot generate an RSA key pair", ex);
+        }
+    }
+
+    /**
+     * @return The key (with private part) that signs new tokens.
+     */
+    public RSAKey activeKey() {
+        return activeKey;
+    }
+
+    /**
+     * @return Public keys of every key whose tokens are accepted.
+     */
+    public JWKSet verificationKeys() {
+        return verificationKeys;
+    }
+
+    private static RSAKey toRsaKey(SigningKey key) {
+        RSAPrivateKey privateKey = key.privateKeyLocation() != null
+                ? RsaKeyConverters.pkcs8().convert(open(key.privateKeyLocation()))
+                : null;
+        RSAPublicKey publicKey = key.publicKeyLocation() != null
+                ? RsaKeyConverters.x509().convert(open(key.publicKeyLocation()))
+                : derivePublicKey(key.id(), privateKey);
+
+        RSAKey.Builder builder = new RSAKey.Builder(publicKey).keyID(key.id());
+        if (privateKey != null) {
+            builder.privateKey(privateKey);
+        }
+        return builder.build();
+    }
+
+    private static RSAPublicKey derivePublicKey(String keyId, RSAPrivateKey privateKey) {
+        if (!(privateKey instanceof RSAPrivateCrtKey crtKey)) {
+            throw new IllegalStateException("Token signing key '" + keyId + "' needs a public-key-location");
+        }
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA")
+                    .generatePublic(new RSAPublicKeySpec(crtKey.getModulus(), crtKey.getPublicExponent()));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot derive the public key of token signing key '" + keyId + "'", ex);
+        }
+    }
+
+    private static InputStream open(Resource resource) {
+        try {
+            return resource.getInputStream();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot read token signing key " + resource, ex);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ums.core.user_management_system.security;
+
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Authenticated user as loaded by CustomUserDetailsService. Besides the usual UserDetails it carries
+ * the database ID, so that issued tokens can name the user by ID without another lookup.
+ *
+ * Unlike Spring's User it does not sort and copy its authorities on construction: immutable sets
+ * (such as those from {@link RoleAuthorities}) are kept as-is and shared between instances.
+ * Equality is by username, as for Spring's User.
+ */
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+
+    private final UUID id;
+    private final String username;
+    private String password;
+    private final boolean enabled;
+    private final Set<GrantedAuthority> authorities;
+
+    public UserPrincipal(UUID id, String username, String password, boolean enabled,
+                         Collection<? extends GrantedAuthority> authorities) {
+        if (username == null || username.isEmpty() || password == null) {
+            throw new IllegalArgumentException("Cannot pass null or empty values to constructor");
+        }
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled;
+        this.authorities = Set.copyOf(authorities); // no copy if already an immutable set
+    }
+
+    /**
+     * Copy constructor; the copy has its own password so erasing it leaves the original intact.
+     *
+     * @param source The principal to copy.
+     */
+    public UserPrincipal(UserPrincipal source) {
+        this(source.id, source.username, source.password, source.enabled, source.authorities);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Set<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof UserPrincipal other && username.equals(other.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [Username=" + username + ", Enabled=" + enabled
+                + ", Granted Authorities=" + authorities + "]";
+    }
+}
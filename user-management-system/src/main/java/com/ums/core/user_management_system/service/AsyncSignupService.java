@@ -0,0 +1,33 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.SignupJobDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+
+import java.util.UUID;
+
+/**
+ * Write-behind signups: requests are accepted into a bounded in-memory queue and written by a background
+ * writer that inserts many users per transaction. Only available with {@code ums.async-signup.enabled=true}.
+ */
+public interface AsyncSignupService {
+
+    /**
+     * Accepts a validated signup for asynchronous creation.
+     * Usernames and emails that are already taken, or queued by another pending signup, are rejected right away.
+     *
+     * @param userRequestDTO The user to create.
+     * @return The pending job.
+     * @throws com.ums.core.user_management_system.exception.DuplicateResourceException if the username or email is taken.
+     * @throws com.ums.core.user_management_system.exception.ServiceOverloadedException if the queue is full.
+     */
+    SignupJobDTO submit(UserRequestDTO userRequestDTO);
+
+    /**
+     * Retrieves the state of a signup accepted by this node.
+     *
+     * @param jobId The job id returned by {@link #submit(UserRequestDTO)}.
+     * @return The job, including the created user once written.
+     * @throws com.ums.core.user_management_system.exception.ResourceNotFoundException if the job is unknown or expired.
+     */
+    SignupJobDTO getJob(UUID jobId);
+}
@@ -1,31 +1,57 @@
 package com.ums.core.user_management_system.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ums.core.user_management_system.config.AuthCacheProperties;
+import com.ums.core.user_management_system.entity.Role;
 import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
 import com.ums.core.user_management_system.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.ums.core.user_management_system.security.RoleAuthorities;
+import com.ums.core.user_management_system.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Custom implementation of UserDetailsService that loads user-specific data
  * from the database using UserRepository.
+ *
+ * Loaded users are kept in a size-bounded cache that expires entries after a fixed TTL, so clients
+ * sending HTTP Basic credentials on every request do not cost a database round trip each time.
+ * Entries are evicted as soon as a {@link UserChangedEvent} is published for the user, e.g. when it is
+ * deactivated or its password changes, also when that happens on another node (see PostgresUserChangeBus);
+ * the TTL bounds staleness for changes made outside the application.
  */
 @Service // Mark this as a Spring service component
-@RequiredArgsConstructor
 @Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
 
+    static final String CACHE_NAME = "auth.userDetails";
+
     private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> userDetailsCache;
+
+    public CustomUserDetailsService(UserRepository userRepository, AuthCacheProperties authCacheProperties,
+                                    MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        AuthCacheProperties.UserDetailsCache settings = authCacheProperties.userDetails();
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(settings.maxSize())
+                .expireAfterWrite(settings.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, CACHE_NAME);
+    }
 
     /**
      * Locates the user based on the username.
@@ -35,8 +61,45 @@ public class CustomUserDetailsService implements UserDetailsService {
      * @throws UsernameNotFoundException if the user could not be found.
      */
     @Override
-    @Transactional(readOnly = true) // Use read-only transaction for loading user data
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Not @Transactional: a cache hit must not check out a pooled connection.
+        // Misses are not cached, so a user created after a failed lookup is found right away.
+        UserPrincipal cached = userDetailsCache.get(User.normalizeUsername(username), key -> loadFromDatabase(username));
+
+        // Hand out a copy: the authentication manager erases the password on the principal it returns
+        return new UserPrincipal(cached);
+    }
+
+    /**
+     * Removes the cached details for the given username, if present.
+     *
+     * @param username The username whose cached details are stale.
+     */
+    public void evict(String username) {
+        if (username != null) {
+            userDetailsCache.invalidate(User.normalizeUsername(username));
+        }
+    }
+
+    /**
+     * Evicts the changed user so the next authentication reloads its enabled flag, password and roles.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached user details for username: {}", event.username());
+        evict(event.username());
+    }
+
+    /**
+     * Drops all cached details, e.g. after changes on other nodes may have been missed.
+     */
+    @EventListener
+    public void onAllUsersChanged(AllUsersChangedEvent event) {
+        log.debug("Evicting all cached user details");
+        userDetailsCache.invalidateAll();
+    }
+
+    private UserPrincipal loadFromDatabase(String username) {
         log.debug("Attempting to load user by username: {}", username);
 
         // Find the user by username (case-insensitive) from the repository
@@ -49,36 +112,28 @@ public class CustomUserDetailsService implements UserDetailsService {
         log.info("User found with username: {}. Loading details.", username);
 
         // Convert the user's roles (enum) into Spring Security GrantedAuthority objects
-        Collection<? extends GrantedAuthority> authorities = mapRolesToAuthorities(user.getRoles());
+        Set<GrantedAuthority> authorities = mapRolesToAuthorities(user.getRoles());
 
-        // Create and return a Spring Security UserDetails object
+        // Create and return a Spring Security UserDetails object that also carries the user's ID
         // Uses the HASHED password from the entity's 'password' field
-        // Corrected constructor call with all boolean flags
-        return new org.springframework.security.core.userdetails.User(
+        // accountNonExpired, credentialsNonExpired and accountNonLocked are always true for now
+        return new UserPrincipal(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),       // Hashed password from DB
                 user.isActive(),          // enabled flag from DB
-                true,                     // accountNonExpired (assuming true for now)
-                true,                     // credentialsNonExpired (assuming true for now)
-                true,                     // accountNonLocked (assuming true for now) - Added this parameter
                 authorities               // authorities (roles)
         );
     }
 
     /**
      * Helper method to map Role enums to GrantedAuthority objects (prefixed with ROLE_).
+     * Returns one of the shared, immutable sets pre-built by RoleAuthorities, so nothing is allocated per request.
      *
      * @param roles The set of Role enums from the User entity.
-     * @return A collection of GrantedAuthority objects.
+     * @return An immutable set of GrantedAuthority objects.
      */
-    private Collection<? extends GrantedAuthority> mapRolesToAuthorities(Set<com.ums.core.user_management_system.entity.Role> roles) {
-        // Handle null or empty roles gracefully
-        if (roles == null || roles.isEmpty()) {
-            return Set.of(); // Return an empty set of authorities
-        }
-        return roles.stream()
-                // Spring Security expects authorities prefixed with ROLE_ for hasRole/hasAuthority checks
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toList());
+    private Set<GrantedAuthority> mapRolesToAuthorities(Set<Role> roles) {
+        return RoleAuthorities.of(roles);
     }
 }
@@ -0,0 +1,26 @@
+package com.ums.core.user_management_system.service;
+
+import java.util.List;
+
+public interface PasswordHashingService {
+    /**
+     * Hashes a raw password on the dedicated hashing executor and waits for the result.
+     * Must be called outside of any database transaction so no pooled connection is held meanwhile.
+     *
+     * @param rawPassword The plaintext password.
+     * @return The encoded password.
+     * @throws com.ums.core.user_management_system.exception.ServiceOverloadedException if the executor is saturated
+     *         or the hash does not complete within the configured timeout.
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Hashes several raw passwords in parallel on the dedicated hashing executor.
+     *
+     * @param rawPasswords The plaintext passwords.
+     * @return The encoded passwords, in the same order.
+     * @throws com.ums.core.user_management_system.exception.ServiceOverloadedException if the executor is saturated
+     *         or the hashes do not complete within the configured timeout.
+     */
+    List<String> hashAll(List<String> rawPasswords);
+}
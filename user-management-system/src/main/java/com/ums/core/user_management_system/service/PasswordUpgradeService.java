@@ -0,0 +1,15 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.security.UserPrincipal;
+
+public interface PasswordUpgradeService {
+    /**
+     * Re-hashes a just-verified password with the current algorithm and work factor and stores it,
+     * on the password hashing executor so the login that triggered it is not delayed.
+     * Best effort: if the executor is saturated the upgrade is skipped and retried on a later login.
+     *
+     * @param user        The authenticated user, carrying the stored (outdated) hash.
+     * @param rawPassword The plaintext password that was just verified.
+     */
+    void upgradeInBackground(UserPrincipal user, String rawPassword);
+}
@@ -0,0 +1,48 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read access to the user directory, for high fan-out read clients.
+ * Writes stay on UserService; both work on the same table.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * Streams users in creation order, as fast as the subscriber consumes them.
+     *
+     * @param limit Maximum number of users, or null for all of them.
+     * @return The users.
+     */
+    Flux<UserResponseDTO> streamUsers(Integer limit);
+
+    /**
+     * Lists the first users in creation order, for responses that are assembled in memory before they are written.
+     *
+     * @param limit Requested number of users; clamped to the supported range.
+     * @return The users.
+     */
+    Flux<UserResponseDTO> listUsers(int limit);
+
+    /**
+     * Retrieves a single user.
+     *
+     * @param id The UUID of the user.
+     * @return The user.
+     * @throws com.ums.core.user_management_system.exception.ResourceNotFoundException (as an error signal) if there is no such user.
+     */
+    Mono<UserResponseDTO> getUserById(UUID id);
+
+    /**
+     * Finds users whose username starts with the given prefix (case-insensitive).
+     *
+     * @param prefix The prefix; a blank prefix matches nothing.
+     * @param limit  Requested number of matches; clamped to the supported range.
+     * @return Matching users ordered by username.
+     */
+    Flux<UserResponseDTO> searchByUsername(String prefix, int limit);
+}
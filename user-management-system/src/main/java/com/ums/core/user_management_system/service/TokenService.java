@@ -0,0 +1,16 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.TokenResponseDTO;
+
+public interface TokenService {
+    /**
+     * Verifies the credentials once and issues a signed, self-contained access token
+     * carrying the user's ID, username and roles.
+     *
+     * @param username The username.
+     * @param password The plaintext password.
+     * @return The access token and its lifetime.
+     * @throws com.ums.core.user_management_system.exception.InvalidCredentialsException if authentication fails.
+     */
+    TokenResponseDTO issueToken(String username, String password);
+}
@@ -0,0 +1,31 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.UserAvailabilityDTO;
+
+/**
+ * Service answering whether usernames and emails are already registered.
+ * Values that have definitely never been used are answered in memory, without a database round trip.
+ */
+public interface UserAvailabilityService {
+
+    /**
+     * Checks a username and/or email for signup.
+     *
+     * @param username The username to check, or null.
+     * @param email    The email to check, or null.
+     * @return Availability of each value that was given.
+     */
+    UserAvailabilityDTO checkAvailability(String username, String email);
+
+    /**
+     * @param username The username to check (case-insensitive).
+     * @return true if a user with this username exists.
+     */
+    boolean isUsernameTaken(String username);
+
+    /**
+     * @param email The email to check (case-insensitive).
+     * @return true if a user with this email exists.
+     */
+    boolean isEmailTaken(String email);
+}
@@ -0,0 +1,20 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.UserBatchResponseDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+
+import java.util.List;
+
+public interface UserBatchService {
+    /**
+     * Creates many users at once and reports an outcome for every item.
+     * Invalid items and duplicates (against existing users or earlier items of the same batch)
+     * are skipped; all remaining users are inserted in a single transaction.
+     *
+     * @param userRequests The users to create, in request order.
+     * @return One result per item plus summary counts.
+     * @throws com.ums.core.user_management_system.exception.DuplicateResourceException if a concurrent
+     *         request created a conflicting user while the batch was being inserted.
+     */
+    UserBatchResponseDTO createUsers(List<UserRequestDTO> userRequests);
+}
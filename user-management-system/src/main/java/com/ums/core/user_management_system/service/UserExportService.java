@@ -0,0 +1,18 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportService {
+    /**
+     * Writes every user to the given stream in the requested format as rows are read.
+     * The password hash is never included.
+     *
+     * @param format The output format.
+     * @param out    The stream to write to; it is flushed but not closed.
+     * @throws IOException if writing to the stream fails.
+     */
+    void exportUsers(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.ums.core.user_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ums.core.user_management_system.config.UserCacheProperties;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-expiring cache of user response DTOs keyed by user ID.
+ *
+ * Entries are evicted as soon as a {@link UserChangedEvent} is published for the user, including changes
+ * made on other nodes (see PostgresUserChangeBus); the TTL bounds staleness for changes made outside this
+ * application. Hits, misses and evictions are exported as the
+ * {@code cache.*} meters tagged {@code cache=users.byId}.
+ * Cached DTOs are shared between requests and must not be modified by callers.
+ */
+@Component
+@Slf4j
+public class UserResponseCache {
+
+    static final String CACHE_NAME = "users.byId";
+
+    private final Cache<UUID, UserResponseDTO> cache;
+
+    public UserResponseCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached user, loading it on a miss. Concurrent misses for the same ID share one load.
+     * Unknown IDs are not cached, so a user created after a failed lookup is found right away.
+     *
+     * @param id     ID of the user.
+     * @param loader Loads the user from the database.
+     * @return The user, or empty if the loader found none.
+     */
+    public Optional<UserResponseDTO> get(UUID id, Function<UUID, Optional<UserResponseDTO>> loader) {
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Removes the cached user, if present.
+     *
+     * @param id ID of the user whose cached copy is stale.
+     */
+    public void evict(UUID id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Evicts the changed user so the next lookup reloads it.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached user for ID: {}", event.id());
+        evict(event.id());
+    }
+
+    /**
+     * Drops every cached user, e.g. after changes on other nodes may have been missed.
+     */
+    @EventListener
+    public void onAllUsersChanged(AllUsersChangedEvent event) {
+        log.debug("Evicting all cached users");
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+
+import java.util.List;
+
+public interface UserSearchService {
+    /**
+     * Finds users whose username or email starts with the given prefix (case-insensitive).
+     * Answered from memory; the database is not queried.
+     *
+     * @param prefix The typed prefix; a blank prefix matches nothing.
+     * @param limit  Requested number of matches; clamped to the supported range.
+     * @return Matching users, username matches first.
+     * @throws com.ums.core.user_management_system.exception.SearchIndexNotReadyException if the index is still being built.
+     */
+    List<UserSearchResultDTO> search(String prefix, int limit);
+}
@@ -0,0 +1,53 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps Hibernate's second-level cache of users (see HibernateCacheConfig) consistent across nodes.
+ *
+ * Changes made on this node go through Hibernate, which updates or invalidates the cached entries itself.
+ * Changes made on other nodes arrive as remote {@link UserChangedEvent}s (see PostgresUserChangeBus) and evict
+ * the cached entity. Its natural-id entry stays: usernames never change, so it still points to the right ID.
+ * The TTL of both regions bounds staleness for changes made outside the application.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ums.hibernate-cache", name = "enabled", havingValue = "true")
+@Slf4j
+public class UserSecondLevelCache {
+
+    private final Cache cache;
+
+    public UserSecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Evicts a user changed on another node so the next lookup reloads it.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.remote()) {
+            log.debug("Evicting second-level cached user for ID: {}", event.id());
+            cache.evictEntityData(User.class, event.id());
+        }
+    }
+
+    /**
+     * Drops every cached user and natural id, e.g. after changes on other nodes may have been missed.
+     */
+    @EventListener
+    public void onAllUsersChanged(AllUsersChangedEvent event) {
+        log.debug("Evicting all second-level cached users");
+        cache.evictEntityData(User.class);
+        cache.evictNaturalIdData(User.class);
+    }
+}
@@ -1,14 +1,18 @@
 package com.ums.core.user_management_system.service;
 
+import com.ums.core.user_management_system.dto.CursorPageResponseDTO;
 import com.ums.core.user_management_system.dto.UserRequestDTO;
 import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.entity.Role;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface UserService {
     /**
      * Creates a new user based on the provided request data.
-     * Handles validation, password hashing, and persistence.
+     * Handles password hashing and persistence; uniqueness is enforced by the database constraints.
      *
      * @param userRequestDTO DTO containing the new user's details.
      * @return UserResponseDTO representing the newly created user.
@@ -23,10 +27,31 @@ public interface UserService {
      */
     List<UserResponseDTO> getAllUsers();
 
+    /**
+     * Retrieves one page of users using keyset pagination over (createdAt, id).
+     *
+     * @param cursor Opaque cursor returned by the previous page, or null for the first page.
+     * @param limit  Requested page size; clamped to the supported range.
+     * @param role   Only return users having this role, or null for all users.
+     * @return The page of users and the cursor for the next page, if any.
+     * @throws com.ums.core.user_management_system.exception.InvalidCursorException if the cursor is malformed.
+     */
+    CursorPageResponseDTO<UserResponseDTO> getUsersPage(String cursor, int limit, Role role);
+
+    /**
+     * Returns an opaque version of the user directory that changes whenever a user is created or updated.
+     * Suitable as a strong ETag for every listing (getAllUsers, getUsersPage); computing it reads no user rows.
+     *
+     * @return The current directory version.
+     */
+    String getUsersVersion();
+
     /**
      * Retrieves a specific user by their unique ID.
+     * Served from an in-process cache; only misses reach the database.
      *
      * @param id The UUID of the user to retrieve.
      * @return An Optional containing the UserResponseDTO if found, otherwise empty.
      */
+    Optional<UserResponseDTO> getUserById(UUID id);
 }
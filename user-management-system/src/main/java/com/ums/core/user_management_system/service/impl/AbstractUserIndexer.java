@@ -0,0 +1,106 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.event.UsersCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps an in-memory structure over all users up to date on one background thread.
+ *
+ * The structure is rebuilt once the application is ready, after an {@link AllUsersChangedEvent} and, if
+ * {@link #rebuildInterval()} is set, periodically. Each {@link UserChangedEvent} - local or from another node -
+ * is handed to {@link #refresh(UUID)}, and the users of a {@link UsersCreatedEvent} to {@link #add(List)}.
+ * Everything runs in event order, so writes are never slowed down, and a change made while a rebuild is streaming
+ * is applied to the new structure right after it is swapped in.
+ */
+abstract class AbstractUserIndexer {
+
+    protected final TransactionTemplate readOnlyTransaction;
+    private final ScheduledExecutorService indexer;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    protected AbstractUserIndexer(String threadNamePrefix, PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true); // Lets the JDBC driver stream with a server-side cursor
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        this.indexer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Duration interval = rebuildInterval();
+        if (interval == null) {
+            scheduleRebuild();
+        } else {
+            indexer.scheduleWithFixedDelay(this::scheduleRebuild, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @EventListener
+    public void onAllUsersChanged(AllUsersChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        indexer.execute(() -> refresh(event.id()));
+    }
+
+    @EventListener
+    public void onUsersCreated(UsersCreatedEvent event) {
+        indexer.execute(() -> add(event.users()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * @return The delay between periodic rebuilds, or null to rebuild only at startup and on demand.
+     */
+    protected Duration rebuildInterval() {
+        return null;
+    }
+
+    private void scheduleRebuild() {
+        // A rebuild that has not started yet will already see every change made so far
+        if (rebuildPending.compareAndSet(false, true)) {
+            indexer.execute(() -> {
+                rebuildPending.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Builds the structure from the database and swaps it in; must not throw.
+     */
+    abstract void rebuild();
+
+    /**
+     * Re-reads one user and applies its current state; must not throw.
+     */
+    abstract void refresh(UUID id);
+
+    /**
+     * Adds users whose values are already known, e.g. just created ones.
+     */
+    abstract void add(List<UserSearchResultDTO> users);
+}
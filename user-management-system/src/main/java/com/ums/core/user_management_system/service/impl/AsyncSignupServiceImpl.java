@@ -0,0 +1,336 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ums.core.user_management_system.config.AsyncSignupProperties;
+import com.ums.core.user_management_system.dto.BatchItemResultDTO;
+import com.ums.core.user_management_system.dto.BatchItemStatus;
+import com.ums.core.user_management_system.dto.SignupJobDTO;
+import com.ums.core.user_management_system.dto.SignupJobStatus;
+import com.ums.core.user_management_system.dto.UserBatchResponseDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.exception.DuplicateResourceException;
+import com.ums.core.user_management_system.exception.ResourceNotFoundException;
+import com.ums.core.user_management_system.exception.ServiceOverloadedException;
+import com.ums.core.user_management_system.service.AsyncSignupService;
+import com.ums.core.user_management_system.service.UserAvailabilityService;
+import com.ums.core.user_management_system.service.UserBatchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the AsyncSignupService interface.
+ *
+ * Accepted signups wait in a bounded queue. One writer thread takes whatever has accumulated (up to
+ * {@code ums.async-signup.max-batch-size}) and hands it to UserBatchService, which hashes the passwords in
+ * parallel and inserts all users in one transaction. There is no artificial delay: while one batch is being
+ * hashed and written the next one builds up, so batches grow with the load and a lone signup is written at once.
+ *
+ * Duplicates are treated like on the synchronous path. Values that are already taken, or held by another
+ * queued signup, are rejected at submit time with a DuplicateResourceException (409). Conflicts that only
+ * appear later end the job as DUPLICATE. If a concurrent insert makes the whole batch roll back, the batch
+ * is written again after a short, growing pause; its duplicate check then sees the other user. Should the last
+ * attempt still conflict, its signups are written one by one, so only the actual conflict ends as DUPLICATE.
+ *
+ * Trade-off: a signup acknowledged with 202 lives only in memory until its batch commits. Shutdown drains
+ * the queue, but a crashed node loses what was queued. Outcomes can only be polled on the accepting node.
+ *
+ * Publishes ums.signup.async.queue.size, ums.signup.async.batch.size (users per transaction),
+ * ums.signup.async.completion (accept to outcome) and ums.signup.async.rejected (queue full).
+ */
+@Service
+@ConditionalOnProperty(prefix = "ums.async-signup", name = "enabled", havingValue = "true")
+@Slf4j
+public class AsyncSignupServiceImpl implements AsyncSignupService {
+
+    static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private record PendingSignup(UUID jobId, UserRequestDTO request, String username, String email,
+                                 OffsetDateTime acceptedAt, long acceptedNanos) {
+    }
+
+    private final UserBatchService userBatchService;
+    private final UserAvailabilityService userAvailabilityService;
+    private final AsyncSignupProperties properties;
+    private final BlockingQueue<PendingSignup> queue;
+    private final Set<String> pendingUsernames = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingEmails = ConcurrentHashMap.newKeySet();
+    private final Cache<UUID, SignupJobDTO> jobs;
+    private final ExecutorService writer;
+    private final DistributionSummary batchSizes;
+    private final Timer completionTimer;
+    private final Counter rejectedCounter;
+
+    private volatile boolean accepting = true;
+
+    public AsyncSignupServiceImpl(UserBatchService userBatchService, UserAvailabilityService userAvailabilityService,
+                                  AsyncSignupProperties properties, MeterRegistry meterRegistry) {
+        this.userBatchService = userBatchService;
+        this.userAvailabilityService = userAvailabilityService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(properties.jobRetention())
+                .maximumSize(properties.maxTrackedJobs())
+                .build();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("signup-writer-");
+        threadFactory.setDaemon(true);
+        this.writer = Executors.newSingleThreadExecutor(threadFactory);
+        this.batchSizes = DistributionSummary.builder("ums.signup.async.batch.size")
+                .description("Signups written per transaction")
+                .register(meterRegistry);
+        this.completionTimer = Timer.builder("ums.signup.async.completion")
+                .description("Time from accepting an asynchronous signup to its outcome")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ums.signup.async.rejected")
+                .description("Asynchronous signups rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("ums.signup.async.queue.size", queue, BlockingQueue::size)
+                .description("Asynchronous signups waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SignupJobDTO submit(UserRequestDTO userRequestDTO) {
+        if (!accepting) {
+            throw new ServiceOverloadedException("Server is shutting down, please retry shortly.");
+        }
+        String username = User.normalizeUsername(userRequestDTO.getUsername());
+        String email = User.normalizeEmail(userRequestDTO.getEmail());
+        // Claim the values first, so two queued signups can never carry the same username or email
+        if (!pendingUsernames.add(username)) {
+            throw usernameTaken(userRequestDTO);
+        }
+        if (!pendingEmails.add(email)) {
+            pendingUsernames.remove(username);
+            throw emailTaken(userRequestDTO);
+        }
+        boolean queued = false;
+        try {
+            if (userAvailabilityService.isUsernameTaken(userRequestDTO.getUsername())) {
+                throw usernameTaken(userRequestDTO);
+            }
+            if (userAvailabilityService.isEmailTaken(userRequestDTO.getEmail())) {
+                throw emailTaken(userRequestDTO);
+            }
+            PendingSignup signup = new PendingSignup(UUID.randomUUID(), userRequestDTO, username, email,
+                    OffsetDateTime.now(), System.nanoTime());
+            SignupJobDTO job = SignupJobDTO.builder()
+                    .jobId(signup.jobId())
+                    .status(SignupJobStatus.PENDING)
+                    .acceptedAt(signup.acceptedAt())
+                    .build();
+            jobs.put(job.getJobId(), job);
+            if (!queue.offer(signup)) {
+                jobs.invalidate(job.getJobId());
+                rejectedCounter.increment();
+                log.warn("Signup queue is full ({} waiting); shedding request", queue.size());
+                throw new ServiceOverloadedException("Server is busy, please retry shortly.");
+            }
+            queued = true;
+            log.debug("Queued signup {} for username: {}", job.getJobId(), userRequestDTO.getUsername());
+            return job;
+        } finally {
+            if (!queued) {
+                pendingUsernames.remove(username);
+                pendingEmails.remove(email);
+            }
+        }
+    }
+
+    @Override
+    public SignupJobDTO getJob(UUID jobId) {
+        SignupJobDTO job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Signup job not found or expired: " + jobId);
+        }
+        return job;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        writer.execute(this::runWriter);
+    }
+
+    /**
+     * Stops accepting signups and gives the writer up to the shutdown timeout to store the queued ones.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        accepting = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            writer.shutdownNow();
+            log.error("Signup writer did not finish within {}; {} queued signups were not stored",
+                    properties.shutdownTimeout(), queue.size());
+        }
+    }
+
+    private void runWriter() {
+        try {
+            while (accepting || !queue.isEmpty()) {
+                PendingSignup first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    writeBatch(first);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the signups queued right now, if any. Invoked by the writer thread; also used by tests.
+     */
+    void writeQueued() {
+        PendingSignup first = queue.poll();
+        if (first != null) {
+            writeBatch(first);
+        }
+    }
+
+    private void writeBatch(PendingSignup first) {
+        List<PendingSignup> batch = new ArrayList<>(Math.min(queue.size() + 1, properties.maxBatchSize()));
+        batch.add(first);
+        queue.drainTo(batch, properties.maxBatchSize() - 1);
+        batchSizes.record(batch.size());
+        try {
+            UserBatchResponseDTO response = createUsers(batch.stream().map(PendingSignup::request).toList());
+            for (BatchItemResultDTO result : response.getResults()) {
+                PendingSignup signup = batch.get(result.getIndex());
+                switch (result.getStatus()) {
+                    case CREATED -> complete(signup, SignupJobStatus.CREATED, result);
+                    case DUPLICATE -> complete(signup, SignupJobStatus.DUPLICATE, result);
+                    case INVALID -> complete(signup, SignupJobStatus.FAILED, result); // Validated on submit; defensive
+                }
+            }
+            log.info("Wrote batch of {} queued signups: {} created, {} duplicates", batch.size(),
+                    response.getCreated(), response.getDuplicates());
+        } catch (RuntimeException ex) {
+            log.error("Writing a batch of {} queued signups failed", batch.size(), ex);
+            BatchItemResultDTO failure = BatchItemResultDTO.builder()
+                    .message("Signup could not be stored, please submit it again.")
+                    .build();
+            batch.forEach(signup -> complete(signup, SignupJobStatus.FAILED, failure));
+        } finally {
+            batch.forEach(signup -> {
+                pendingUsernames.remove(signup.username());
+                pendingEmails.remove(signup.email());
+            });
+        }
+    }
+
+    /**
+     * A DuplicateResourceException means a concurrent writer took one of the values after the batch's duplicate
+     * check and everything was rolled back. Retrying lets that check see the other user and mark just this item.
+     * The pause before each retry gives the competing transaction time to commit.
+     */
+    private UserBatchResponseDTO createUsers(List<UserRequestDTO> requests) {
+        for (int attempt = 1; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                return userBatchService.createUsers(requests);
+            } catch (DuplicateResourceException ex) {
+                long pauseMillis = backoffMillis(attempt);
+                log.warn("Batch of {} queued signups conflicted with a concurrent insert; retrying in {} ms",
+                        requests.size(), pauseMillis);
+                pause(pauseMillis);
+            }
+        }
+        return createOneByOne(requests);
+    }
+
+    /**
+     * Last attempt: one transaction per signup, so a conflict rolls back only the signup it belongs to.
+     */
+    private UserBatchResponseDTO createOneByOne(List<UserRequestDTO> requests) {
+        log.warn("Writing {} queued signups one by one after repeated conflicts", requests.size());
+        List<BatchItemResultDTO> results = new ArrayList<>(requests.size());
+        int created = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            BatchItemResultDTO result;
+            try {
+                result = userBatchService.createUsers(List.of(requests.get(i))).getResults().get(0);
+            } catch (DuplicateResourceException ex) {
+                result = BatchItemResultDTO.builder()
+                        .status(BatchItemStatus.DUPLICATE)
+                        .message("Username or email was taken by a concurrent signup.")
+                        .build();
+            }
+            result.setIndex(i);
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+            }
+            results.add(result);
+        }
+        return UserBatchResponseDTO.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .invalid(invalid)
+                .results(results)
+                .build();
+    }
+
+    private long backoffMillis(int attempt) {
+        long base = properties.retryBackoff().toMillis() << (attempt - 1);
+        return base + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            // Shutting down: write the batch right away rather than dropping it
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void complete(PendingSignup signup, SignupJobStatus status, BatchItemResultDTO result) {
+        jobs.put(signup.jobId(), SignupJobDTO.builder()
+                .jobId(signup.jobId())
+                .status(status)
+                .user(result.getUser())
+                .message(result.getMessage())
+                .acceptedAt(signup.acceptedAt())
+                .completedAt(OffsetDateTime.now())
+                .build());
+        completionTimer.record(System.nanoTime() - signup.acceptedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static DuplicateResourceException usernameTaken(UserRequestDTO userRequestDTO) {
+        log.warn("Username already exists: {}", userRequestDTO.getUsername());
+        return new DuplicateResourceException("Username '" + userRequestDTO.getUsername() + "' already exists.");
+    }
+
+    private static DuplicateResourceException emailTaken(UserRequestDTO userRequestDTO) {
+        log.warn("Email already exists: {}", userRequestDTO.getEmail());
+        return new DuplicateResourceException("Email '" + userRequestDTO.getEmail() + "' already exists.");
+    }
+}
@@ -0,0 +1,144 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.config.PasswordHashingConfig;
+import com.ums.core.user_management_system.config.PasswordHashingProperties;
+import com.ums.core.user_management_system.exception.ServiceOverloadedException;
+import com.ums.core.user_management_system.service.PasswordHashingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the PasswordHashingService interface.
+ *
+ * Publishes the following metrics:
+ * ums.password.hash.queue.size (jobs waiting), ums.password.hash.active (jobs hashing),
+ * ums.password.hash.duration (time spent in the encoder per password), ums.password.hash.wait (time spent queued)
+ * and ums.password.hash.rejected (jobs shed because the queue was full or the caller timed out).
+ */
+@Service
+@Slf4j
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      @Qualifier(PasswordHashingConfig.PASSWORD_HASHING_EXECUTOR) ThreadPoolExecutor executor,
+                                      PasswordHashingProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeout = properties.timeout();
+        this.hashTimer = Timer.builder("ums.password.hash.duration")
+                .description("Time spent computing a password hash")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("ums.password.hash.wait")
+                .description("Time a hash job spent queued before a worker picked it up")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ums.password.hash.rejected")
+                .description("Hash jobs rejected because the hashing executor was saturated")
+                .register(meterRegistry);
+        Gauge.builder("ums.password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("Hash jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("ums.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hash jobs currently being computed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return await(submit(() -> encode(rawPassword)), System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Splits the passwords into at most one slice per worker thread, each hashed sequentially by one job.
+     * A batch therefore occupies only a handful of queue slots instead of one per password, and the
+     * caller's deadline is scaled by the slice length.
+     */
+    @Override
+    public List<String> hashAll(List<String> rawPasswords) {
+        if (rawPasswords.isEmpty()) {
+            return List.of();
+        }
+        int slices = Math.min(rawPasswords.size(), executor.getMaximumPoolSize());
+        int sliceLength = (rawPasswords.size() + slices - 1) / slices;
+        long deadline = System.nanoTime() + timeout.toNanos() * sliceLength;
+
+        List<Future<List<String>>> futures = new ArrayList<>(slices);
+        try {
+            for (int from = 0; from < rawPasswords.size(); from += sliceLength) {
+                List<String> slice = rawPasswords.subList(from, Math.min(from + sliceLength, rawPasswords.size()));
+                futures.add(submit(() -> slice.stream().map(this::encode).toList()));
+            }
+            List<String> hashes = new ArrayList<>(rawPasswords.size());
+            for (Future<List<String>> future : futures) {
+                hashes.addAll(await(future, deadline));
+            }
+            return hashes;
+        } catch (RuntimeException ex) {
+            // Free the workers if the batch as a whole is going to fail
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+    }
+
+    private <T> Future<T> submit(Supplier<T> hashing) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashing.get();
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full ({} waiting); shedding request", executor.getQueue().size());
+            throw new ServiceOverloadedException("Server is busy, please retry shortly.", ex);
+        }
+    }
+
+    private String encode(String rawPassword) {
+        return hashTimer.record(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> T await(Future<T> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(false);
+            rejectedCounter.increment();
+            log.warn("Password hashing did not complete within {}", timeout);
+            throw new ServiceOverloadedException("Server is busy, please retry shortly.", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hash", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
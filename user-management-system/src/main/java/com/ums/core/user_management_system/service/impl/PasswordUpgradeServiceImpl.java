@@ -0,0 +1,97 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.config.PasswordHashingConfig;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.security.UserPrincipal;
+import com.ums.core.user_management_system.service.PasswordUpgradeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Implementation of the PasswordUpgradeService interface.
+ *
+ * At most one upgrade per user is in flight; the update is conditional on the old hash, so it never
+ * overwrites a password changed in the meantime. Afterwards a UserChangedEvent evicts the cached
+ * UserDetails, which still hold the old hash.
+ */
+@Service
+@Slf4j
+public class PasswordUpgradeServiceImpl implements PasswordUpgradeService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter upgraded;
+    private final Counter skipped;
+
+    public PasswordUpgradeServiceImpl(PasswordEncoder passwordEncoder,
+                                      @Qualifier(PasswordHashingConfig.PASSWORD_HASHING_EXECUTOR) Executor executor,
+                                      UserRepository userRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.upgraded = Counter.builder("ums.password.rehash")
+                .description("Password hashes upgraded after login")
+                .tag("outcome", "upgraded")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("ums.password.rehash")
+                .description("Password hashes upgraded after login")
+                .tag("outcome", "skipped")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void upgradeInBackground(UserPrincipal user, String rawPassword) {
+        UUID id = user.getId();
+        String currentHash = user.getPassword();
+        if (id == null || currentHash == null || !inFlight.add(id)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    upgrade(user, currentHash, rawPassword);
+                } finally {
+                    inFlight.remove(id);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(id);
+            skipped.increment();
+            log.debug("Hashing executor saturated; deferring password upgrade for user ID: {}", id);
+        }
+    }
+
+    private void upgrade(UserPrincipal user, String currentHash, String rawPassword) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), currentHash, newHash) == 1) {
+                upgraded.increment();
+                log.info("Upgraded password hash for user ID: {}", user.getId());
+                eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername()));
+            } else {
+                skipped.increment();
+            }
+        } catch (RuntimeException ex) {
+            skipped.increment();
+            log.warn("Password upgrade failed for user ID: {}", user.getId(), ex);
+        }
+    }
+}
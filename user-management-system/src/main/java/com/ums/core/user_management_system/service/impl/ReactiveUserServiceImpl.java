@@ -0,0 +1,64 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.exception.ResourceNotFoundException;
+import com.ums.core.user_management_system.repository.ReactiveUserRepository;
+import com.ums.core.user_management_system.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Implementation of the ReactiveUserService interface on top of ReactiveUserRepository (R2DBC).
+ * No thread is blocked while a query runs; rows are emitted on the driver's event loop.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    static final int MAX_SEARCH_LIMIT = 50;
+    static final int MAX_LIST_LIMIT = 500;
+
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    @Override
+    public Flux<UserResponseDTO> streamUsers(Integer limit) {
+        if (limit == null) {
+            return reactiveUserRepository.findAll();
+        }
+        return limit < 1 ? Flux.empty() : reactiveUserRepository.findFirst(limit);
+    }
+
+    @Override
+    public Flux<UserResponseDTO> listUsers(int limit) {
+        return reactiveUserRepository.findFirst(Math.max(1, Math.min(limit, MAX_LIST_LIMIT)));
+    }
+
+    @Override
+    public Mono<UserResponseDTO> getUserById(UUID id) {
+        return reactiveUserRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with ID: " + id)));
+    }
+
+    @Override
+    public Flux<UserResponseDTO> searchByUsername(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Flux.empty();
+        }
+        String pattern = escapeLike(prefix.strip().toLowerCase(Locale.ROOT)) + "%";
+        return reactiveUserRepository.findByUsernameLike(pattern, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
+    }
+
+    /**
+     * Escapes LIKE wildcards so user input only ever matches literally (backslash is the default escape character).
+     */
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
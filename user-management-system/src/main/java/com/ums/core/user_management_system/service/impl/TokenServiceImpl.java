@@ -0,0 +1,85 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.config.TokenConfig;
+import com.ums.core.user_management_system.config.TokenProperties;
+import com.ums.core.user_management_system.dto.TokenResponseDTO;
+import com.ums.core.user_management_system.exception.InvalidCredentialsException;
+import com.ums.core.user_management_system.security.TokenSigningKeys;
+import com.ums.core.user_management_system.security.UserPrincipal;
+import com.ums.core.user_management_system.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of the TokenService interface.
+ *
+ * Credentials are checked through the regular AuthenticationManager (CustomUserDetailsService plus
+ * the password encoder), i.e. BCrypt runs once per token instead of once per request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenServiceImpl implements TokenService {
+
+    static final String TOKEN_TYPE = "Bearer";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtEncoder jwtEncoder;
+    private final TokenSigningKeys tokenSigningKeys;
+    private final TokenProperties tokenProperties;
+
+    @Override
+    public TokenResponseDTO issueToken(String username, String password) {
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+        } catch (AuthenticationException ex) {
+            log.warn("Token request rejected for username: {}", username);
+            throw new InvalidCredentialsException("Invalid username or password.", ex);
+        }
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        List<String> roles = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authority -> authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority)
+                .toList();
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(tokenProperties.issuer())
+                .subject(principal.getId().toString())
+                .issuedAt(now)
+                .expiresAt(now.plus(tokenProperties.ttl()))
+                .claim(TokenConfig.USERNAME_CLAIM, principal.getUsername())
+                .claim(TokenConfig.ROLES_CLAIM, roles)
+                .build();
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256)
+                .keyId(tokenSigningKeys.activeKey().getKeyID())
+                .build();
+
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        log.info("Issued access token for user ID: {}", principal.getId());
+
+        return TokenResponseDTO.builder()
+                .accessToken(token)
+                .tokenType(TOKEN_TYPE)
+                .expiresIn(tokenProperties.ttl().toSeconds())
+                .build();
+    }
+}
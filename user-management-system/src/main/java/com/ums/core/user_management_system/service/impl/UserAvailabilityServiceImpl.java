@@ -0,0 +1,206 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.config.UserAvailabilityProperties;
+import com.ums.core.user_management_system.dto.UserAvailabilityDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.event.UsersCreatedEvent;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.search.BloomFilter;
+import com.ums.core.user_management_system.service.UserAvailabilityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Implementation of the UserAvailabilityService interface, backed by one Bloom filter of the lower-cased
+ * usernames and one of the lower-cased emails of all users.
+ *
+ * A value the filter has never seen is reported as free without touching the database; only possible
+ * positives are confirmed with the existence queries (served by the lower-case unique indexes).
+ * The filters are kept up to date in the background as described in {@link AbstractUserIndexer}, with a periodic
+ * rebuild every {@code ums.availability.rebuild-interval}: a {@link UserChangedEvent} re-reads that user and adds
+ * its values, the users of a {@link UsersCreatedEvent} are added as carried by the event. Until the first build
+ * completes every lookup goes to the database.
+ *
+ * A newly created user becomes visible to the filters a few milliseconds after commit. A signup racing into that
+ * window is still rejected by the unique indexes, so the filters only ever decide how cheap an answer is.
+ *
+ * Lookups are counted as ums.user.availability.lookups tagged by field and outcome: {@code filtered} (answered
+ * in memory), {@code taken} and {@code false_positive} (filter hit, but not in the database). The observed
+ * false-positive rate is false_positive / (filtered + false_positive); ums.user.availability.filter.fpp is the
+ * rate predicted from the filters' fill level.
+ */
+@Service
+@Slf4j
+public class UserAvailabilityServiceImpl extends AbstractUserIndexer implements UserAvailabilityService {
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+
+    private final UserRepository userRepository;
+    private final UserExportRepository userExportRepository;
+    private final UserAvailabilityProperties properties;
+    private final Lookups usernameLookups;
+    private final Lookups emailLookups;
+
+    private volatile Filters filters;
+
+    public UserAvailabilityServiceImpl(UserRepository userRepository, UserExportRepository userExportRepository,
+                                       UserAvailabilityProperties properties,
+                                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        super("user-availability-", transactionManager);
+        this.userRepository = userRepository;
+        this.userExportRepository = userExportRepository;
+        this.properties = properties;
+        this.usernameLookups = new Lookups("username", meterRegistry, Filters::usernames, User::normalizeUsername);
+        this.emailLookups = new Lookups("email", meterRegistry, Filters::emails, User::normalizeEmail);
+    }
+
+    @Override
+    public UserAvailabilityDTO checkAvailability(String username, String email) {
+        return UserAvailabilityDTO.builder()
+                .usernameAvailable(username == null ? null : !isUsernameTaken(username))
+                .emailAvailable(email == null ? null : !isEmailTaken(email))
+                .build();
+    }
+
+    @Override
+    public boolean isUsernameTaken(String username) {
+        return usernameLookups.isTaken(username, userRepository::existsByUsernameIgnoreCase);
+    }
+
+    @Override
+    public boolean isEmailTaken(String email) {
+        return emailLookups.isTaken(email, userRepository::existsByEmailIgnoreCase);
+    }
+
+    @Override
+    protected Duration rebuildInterval() {
+        return properties.rebuildInterval();
+    }
+
+    /**
+     * Builds fresh filters sized for twice the current directory and swaps them in.
+     */
+    @Override
+    void rebuild() {
+        long start = System.nanoTime();
+        try {
+            long capacity = Math.max(properties.minCapacity(), 2 * userRepository.count());
+            Filters fresh = new Filters(new BloomFilter(capacity, properties.falsePositiveProbability()),
+                    new BloomFilter(capacity, properties.falsePositiveProbability()));
+            long[] users = new long[1];
+            readOnlyTransaction.executeWithoutResult(status -> userExportRepository.streamSearchKeys(user -> {
+                fresh.usernames().put(User.normalizeUsername(user.getUsername()));
+                fresh.emails().put(User.normalizeEmail(user.getEmail()));
+                users[0]++;
+            }));
+            filters = fresh;
+            log.info("Availability filters built for {} users (capacity {}) in {} ms", users[0], capacity,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.error("Building the availability filters failed; keeping the previous ones", ex);
+        }
+    }
+
+    /**
+     * Adds the current username and email of one user. Values it no longer uses stay in the filters as
+     * false positives until the next rebuild.
+     */
+    @Override
+    void refresh(UUID id) {
+        Filters current = filters;
+        if (current == null) {
+            return; // The pending initial build will include the user
+        }
+        try {
+            userRepository.findResponseById(id).ifPresent(user -> {
+                current.usernames().put(User.normalizeUsername(user.getUsername()));
+                current.emails().put(User.normalizeEmail(user.getEmail()));
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Could not add user {} to the availability filters: {}", id, ex.getMessage());
+        }
+    }
+
+    /**
+     * Adds the username and email of users whose values are already known, e.g. just created ones.
+     */
+    @Override
+    void add(List<UserSearchResultDTO> users) {
+        Filters current = filters;
+        if (current == null) {
+            return; // The pending initial build will include the users
+        }
+        for (UserSearchResultDTO user : users) {
+            current.usernames().put(User.normalizeUsername(user.getUsername()));
+            current.emails().put(User.normalizeEmail(user.getEmail()));
+        }
+    }
+
+    /**
+     * Filter lookup and outcome counters for one field.
+     */
+    private final class Lookups {
+
+        private final Function<Filters, BloomFilter> selector;
+        private final UnaryOperator<String> normalizer;
+        private final Counter filtered;
+        private final Counter taken;
+        private final Counter falsePositive;
+
+        Lookups(String field, MeterRegistry meterRegistry, Function<Filters, BloomFilter> selector,
+                UnaryOperator<String> normalizer) {
+            this.selector = selector;
+            this.normalizer = normalizer;
+            this.filtered = counter(meterRegistry, field, "filtered");
+            this.taken = counter(meterRegistry, field, "taken");
+            this.falsePositive = counter(meterRegistry, field, "false_positive");
+            Gauge.builder("ums.user.availability.filter.fpp", this, Lookups::predictedFalsePositiveProbability)
+                    .description("False-positive probability predicted from the availability filter's fill level")
+                    .tag("field", field)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(MeterRegistry meterRegistry, String field, String outcome) {
+            return Counter.builder("ums.user.availability.lookups")
+                    .description("Availability lookups by how they were answered")
+                    .tag("field", field)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private double predictedFalsePositiveProbability() {
+            Filters current = filters;
+            return current == null ? Double.NaN : selector.apply(current).expectedFalsePositiveProbability();
+        }
+
+        boolean isTaken(String value, Predicate<String> existsInDatabase) {
+            Filters current = filters;
+            if (current != null && !selector.apply(current).mightContain(normalizer.apply(value))) {
+                filtered.increment();
+                return false;
+            }
+            boolean exists = existsInDatabase.test(value);
+            if (exists) {
+                taken.increment();
+            } else if (current != null) {
+                falsePositive.increment();
+            }
+            return exists;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.dto.BatchItemResultDTO;
+import com.ums.core.user_management_system.dto.BatchItemStatus;
+import com.ums.core.user_management_system.dto.UserBatchResponseDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.UsersCreatedEvent;
+import com.ums.core.user_management_system.exception.DuplicateResourceException;
+import com.ums.core.user_management_system.mapper.UserMapper;
+import com.ums.core.user_management_system.repository.UserConstraintViolations;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.service.PasswordHashingService;
+import com.ums.core.user_management_system.service.UserBatchService;
+import com.ums.core.user_management_system.timing.RequestTimings;
+import com.ums.core.user_management_system.timing.TimingPhase;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the UserBatchService interface.
+ *
+ * The batch is processed in phases so that the expensive parts never hold a database connection:
+ * per-item validation, one set-based duplicate query over every candidate, parallel password hashing on the
+ * bounded hashing executor, and finally a single transaction in which Hibernate groups the inserts into JDBC
+ * batches (see hibernate.jdbc.batch_size and reWriteBatchedInserts in application.properties).
+ * The created users are announced in one UsersCreatedEvent rather than one event per user.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserBatchServiceImpl implements UserBatchService {
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public UserBatchResponseDTO createUsers(List<UserRequestDTO> userRequests) {
+        log.info("Attempting to create batch of {} users", userRequests.size());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[userRequests.size()];
+
+        // Phase 1: bean validation per item
+        long validateStart = RequestTimings.start();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < userRequests.size(); i++) {
+            String violations = validate(userRequests.get(i));
+            if (violations != null) {
+                results[i] = rejected(i, BatchItemStatus.INVALID, violations);
+            } else {
+                candidates.add(i);
+            }
+        }
+        RequestTimings.stop(TimingPhase.VALIDATE, validateStart);
+
+        // Phase 2: one set-based duplicate check against the database, then within the batch itself.
+        // Every candidate is queried: the availability filters learn about users created on other nodes or
+        // outside the application late, and a duplicate they miss would roll back the whole batch.
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> usernames = candidates.stream()
+                .map(i -> User.normalizeUsername(userRequests.get(i).getUsername()))
+                .collect(Collectors.toSet());
+        Set<String> emails = candidates.stream()
+                .map(i -> User.normalizeEmail(userRequests.get(i).getEmail()))
+                .collect(Collectors.toSet());
+        if (!candidates.isEmpty()) {
+            for (Object[] row : userRepository.findConflictingUsernamesAndEmails(usernames, emails)) {
+                takenUsernames.add((String) row[0]);
+                takenEmails.add((String) row[1]);
+            }
+        }
+
+        List<Integer> accepted = new ArrayList<>();
+        for (int i : candidates) {
+            UserRequestDTO request = userRequests.get(i);
+            String username = User.normalizeUsername(request.getUsername());
+            String email = User.normalizeEmail(request.getEmail());
+            // Values are only claimed by accepted items, so a rejected item never blocks a later one
+            if (takenUsernames.contains(username)) {
+                results[i] = rejected(i, BatchItemStatus.DUPLICATE, "Username '" + request.getUsername() + "' already exists.");
+            } else if (takenEmails.contains(email)) {
+                results[i] = rejected(i, BatchItemStatus.DUPLICATE, "Email '" + request.getEmail() + "' already exists.");
+            } else {
+                takenUsernames.add(username);
+                takenEmails.add(email);
+                accepted.add(i);
+            }
+        }
+
+        // Phase 3: hash passwords in parallel on the hashing executor, outside of any transaction
+        long hashStart = RequestTimings.start();
+        List<String> hashes = accepted.isEmpty() ? List.of() : passwordHashingService.hashAll(accepted.stream()
+                .map(i -> userRequests.get(i).getPassword())
+                .toList());
+        RequestTimings.stop(TimingPhase.HASH, hashStart);
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int k = 0; k < accepted.size(); k++) {
+            User user = userMapper.toUser(userRequests.get(accepted.get(k)));
+            user.setPassword(hashes.get(k));
+            users.add(user);
+        }
+
+        // Phase 4: batched insert in one transaction
+        List<User> savedUsers = users.isEmpty() ? List.of() : insertAll(users);
+        if (!savedUsers.isEmpty()) {
+            eventPublisher.publishEvent(new UsersCreatedEvent(savedUsers.stream()
+                    .map(user -> new UserSearchResultDTO(user.getId(), user.getUsername(), user.getEmail()))
+                    .toList()));
+        }
+        for (int k = 0; k < accepted.size(); k++) {
+            int i = accepted.get(k);
+            results[i] = BatchItemResultDTO.builder()
+                    .index(i)
+                    .status(BatchItemStatus.CREATED)
+                    .user(userMapper.toUserResponseDTO(savedUsers.get(k)))
+                    .build();
+        }
+
+        int invalid = userRequests.size() - candidates.size();
+        int duplicates = candidates.size() - accepted.size();
+        log.info("Batch processed: {} created, {} duplicates, {} invalid", accepted.size(), duplicates, invalid);
+        return UserBatchResponseDTO.builder()
+                .created(accepted.size())
+                .duplicates(duplicates)
+                .invalid(invalid)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private List<User> insertAll(List<User> users) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<User> saved = userRepository.saveAll(users);
+                userRepository.flush();
+                return saved;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            if (UserConstraintViolations.violatedUniqueField(ex).isEmpty()) {
+                throw ex;
+            }
+            // A concurrent request inserted one of our usernames/emails after the duplicate check
+            log.warn("Batch insert hit a uniqueness constraint; batch rolled back");
+            throw new DuplicateResourceException("A user in the batch was created concurrently; retry the batch.", ex);
+        }
+    }
+
+    private String validate(UserRequestDTO request) {
+        if (request == null) {
+            return "User entry cannot be null";
+        }
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static BatchItemResultDTO rejected(int index, BatchItemStatus status, String message) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ums.core.user_management_system.dto.ExportFormat;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import com.ums.core.user_management_system.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+/**
+ * Implementation of the UserExportService interface.
+ * Each row is serialized and written as soon as it is read from the cursor; nothing is collected.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportServiceImpl implements UserExportService {
+
+    static final String CSV_HEADER = "id,username,email,firstName,lastName,phoneNumber,active,createdAt,updatedAt";
+
+    private final UserExportRepository userExportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams all users. Runs in a read-only transaction so the JDBC driver can use a server-side cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Starting {} export of users", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] rows = {0};
+        try {
+            switch (format) {
+                case NDJSON -> {
+                    ObjectWriter jsonWriter = objectMapper.writerFor(UserResponseDTO.class)
+                            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    userExportRepository.streamAll(user -> {
+                        writeUnchecked(() -> {
+                            jsonWriter.writeValue(writer, user);
+                            writer.write('\n');
+                        });
+                        rows[0]++;
+                    });
+                }
+                case CSV -> {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                    userExportRepository.streamAll(user -> {
+                        writeUnchecked(() -> writeCsvRow(writer, user));
+                        rows[0]++;
+                    });
+                }
+            }
+        } catch (UncheckedIOException ex) {
+            // Typically the client disconnected mid-export
+            throw ex.getCause();
+        }
+        writer.flush();
+        log.info("Finished {} export of {} users", format, rows[0]);
+    }
+
+    private static void writeCsvRow(Writer writer, UserResponseDTO user) throws IOException {
+        writer.write(String.valueOf(user.getId()));
+        writer.write(',');
+        writeCsvField(writer, user.getUsername());
+        writer.write(',');
+        writeCsvField(writer, user.getEmail());
+        writer.write(',');
+        writeCsvField(writer, user.getFirstName());
+        writer.write(',');
+        writeCsvField(writer, user.getLastName());
+        writer.write(',');
+        writeCsvField(writer, user.getPhoneNumber());
+        writer.write(',');
+        writer.write(Boolean.toString(user.isActive()));
+        writer.write(',');
+        writeCsvTimestamp(writer, user.getCreatedAt());
+        writer.write(',');
+        writeCsvTimestamp(writer, user.getUpdatedAt());
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a field per RFC 4180: quoted only when it contains a separator, quote or line break.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeCsvTimestamp(Writer writer, OffsetDateTime value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private static void writeUnchecked(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ums.core.user_management_system.service.impl;
+
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.event.UsersCreatedEvent;
+import com.ums.core.user_management_system.exception.SearchIndexNotReadyException;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.search.UserPrefixIndex;
+import com.ums.core.user_management_system.service.UserSearchService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the UserSearchService interface, backed by a {@link UserPrefixIndex}.
+ *
+ * The index is built by streaming (id, username, email) of all users and kept up to date in the background as
+ * described in {@link AbstractUserIndexer}: a {@link UserChangedEvent} re-reads that one user by primary key and
+ * updates its entry, the users of a {@link UsersCreatedEvent} (batch signups) are added as carried by the event.
+ * Searches see a change a few milliseconds after it was committed.
+ */
+@Service
+@Slf4j
+public class UserSearchServiceImpl extends AbstractUserIndexer implements UserSearchService {
+
+    static final int MAX_LIMIT = 50;
+
+    private final UserExportRepository userExportRepository;
+    private final UserRepository userRepository;
+
+    private volatile UserPrefixIndex index = new UserPrefixIndex();
+    private volatile boolean ready;
+
+    public UserSearchServiceImpl(UserExportRepository userExportRepository, UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        super("user-search-index-", transactionManager);
+        this.userExportRepository = userExportRepository;
+        this.userRepository = userRepository;
+        Gauge.builder("ums.user.search.index.size", this, service -> service.index.size())
+                .description("Number of users in the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<UserSearchResultDTO> search(String prefix, int limit) {
+        if (!ready) {
+            throw new SearchIndexNotReadyException("User search is starting up; retry shortly.");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return index.search(prefix.strip(), Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /**
+     * Builds a fresh index from the database and swaps it in; searches keep using the old one meanwhile.
+     */
+    @Override
+    void rebuild() {
+        long start = System.nanoTime();
+        UserPrefixIndex fresh = new UserPrefixIndex();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> userExportRepository.streamSearchKeys(fresh::put));
+        } catch (RuntimeException ex) {
+            log.error("Building the user search index failed; keeping the previous index", ex);
+            return;
+        }
+        index = fresh;
+        ready = true;
+        log.info("User search index built with {} users in {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Adds users whose values are already known, e.g. just created ones.
+     */
+    @Override
+    void add(List<UserSearchResultDTO> users) {
+        UserPrefixIndex current = index;
+        users.forEach(current::put);
+    }
+
+    /**
+     * Re-reads one user and updates (or removes) its entry.
+     */
+    @Override
+    void refresh(UUID id) {
+        try {
+            userRepository.findResponseById(id).ifPresentOrElse(
+                    user -> index.put(new UserSearchResultDTO(user.getId(), user.getUsername(), user.getEmail())),
+                    () -> index.remove(id));
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh user {} in the search index: {}", id, ex.getMessage());
+        }
+    }
+}
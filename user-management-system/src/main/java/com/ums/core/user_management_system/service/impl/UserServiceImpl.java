@@ -1,73 +1,189 @@
 package com.ums.core.user_management_system.service.impl;
+import com.ums.core.user_management_system.dto.CursorPageResponseDTO;
 import com.ums.core.user_management_system.dto.UserRequestDTO;
 import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.entity.Role;
 import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.UserChangedEvent;
 import com.ums.core.user_management_system.exception.DuplicateResourceException;
 import com.ums.core.user_management_system.mapper.UserMapper;
+import com.ums.core.user_management_system.pagination.UserCursor;
+import com.ums.core.user_management_system.repository.UserConstraintViolations;
+import com.ums.core.user_management_system.repository.UserConstraintViolations.UniqueField;
 import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.service.PasswordHashingService;
+import com.ums.core.user_management_system.service.UserAvailabilityService;
+import com.ums.core.user_management_system.service.UserResponseCache;
 import com.ums.core.user_management_system.service.UserService;
+import com.ums.core.user_management_system.timing.RequestTimings;
+import com.ums.core.user_management_system.timing.TimingPhase;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implementation of the UserService interface.
+ * Every public method is timed as ums.user.service, tagged with the method name (see MetricsConfig).
  */
 @Service // Marks this as a Spring service component
+@Timed(value = "ums.user.service", description = "Time spent in UserService methods")
 @RequiredArgsConstructor // Lombok constructor injection
 @Slf4j // Lombok logger
 public class UserServiceImpl implements UserService {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserResponseCache userResponseCache;
+    private final UserAvailabilityService userAvailabilityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new user.
-     * Validates uniqueness, hashes password, maps DTO to entity, saves, and maps back to response DTO.
+     * Hashes the password, maps DTO to entity, inserts, and maps back to response DTO.
+     *
+     * Uniqueness is enforced by the database: the insert is flushed immediately and a
+     * violation of the username/email unique indexes is translated into a DuplicateResourceException.
+     * This stays correct when two signups for the same username race each other.
+     * Before the password is hashed, UserAvailabilityService rejects values that are already taken. Its
+     * Bloom filters answer fresh values in memory, so the happy path still costs a single round trip
+     * while a repeated signup is turned away without paying for BCrypt.
+     *
+     * Deliberately not @Transactional: the password is hashed first, on the bounded hashing executor,
+     * and only then does saveAndFlush open its own short transaction. No pooled connection is held
+     * for the duration of the BCrypt computation.
+     *
+     * The wait for the hash, queueing included, is reported as the hash phase of the request's Server-Timing.
+     *
+     * A UserChangedEvent is published afterwards so in-process caches drop anything they hold for the user.
      */
     @Override
-    @Transactional
     public UserResponseDTO createUser(UserRequestDTO userRequestDTO) {
         log.info("Attempting to create user with username: {}", userRequestDTO.getUsername());
 
-        if (userRepository.existsByUsernameIgnoreCase(userRequestDTO.getUsername())) {
+        if (userAvailabilityService.isUsernameTaken(userRequestDTO.getUsername())) {
             log.warn("Username already exists: {}", userRequestDTO.getUsername());
             throw new DuplicateResourceException("Username '" + userRequestDTO.getUsername() + "' already exists.");
         }
-        if (userRepository.existsByEmailIgnoreCase(userRequestDTO.getEmail())) {
+        if (userAvailabilityService.isEmailTaken(userRequestDTO.getEmail())) {
             log.warn("Email already exists: {}", userRequestDTO.getEmail());
             throw new DuplicateResourceException("Email '" + userRequestDTO.getEmail() + "' already exists.");
         }
 
         User user = userMapper.toUser(userRequestDTO);
 
-        user.setPassword(passwordEncoder.encode(userRequestDTO.getPassword()));
+        long hashStart = RequestTimings.start();
+        user.setPassword(passwordHashingService.hash(userRequestDTO.getPassword()));
+        RequestTimings.stop(TimingPhase.HASH, hashStart);
         log.debug("Password hashed for username: {}", userRequestDTO.getUsername());
 
-
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw toDuplicateResourceException(userRequestDTO, ex);
+        }
         log.info("User saved successfully with ID: {}", savedUser.getId());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getUsername()));
 
         return userMapper.toUserResponseDTO(savedUser);
     }
 
+    private static RuntimeException toDuplicateResourceException(UserRequestDTO userRequestDTO, DataIntegrityViolationException ex) {
+        UniqueField field = UserConstraintViolations.violatedUniqueField(ex).orElse(null);
+        if (field == UniqueField.USERNAME) {
+            log.warn("Username already exists: {}", userRequestDTO.getUsername());
+            return new DuplicateResourceException("Username '" + userRequestDTO.getUsername() + "' already exists.", ex);
+        }
+        if (field == UniqueField.EMAIL) {
+            log.warn("Email already exists: {}", userRequestDTO.getEmail());
+            return new DuplicateResourceException("Email '" + userRequestDTO.getEmail() + "' already exists.", ex);
+        }
+        return ex;
+    }
+
     /**
      * Retrieves all users.
+     * Reads DTOs directly via a constructor-expression projection; no entities are loaded.
      */
     @Override
     @Transactional(readOnly = true)
     public List<UserResponseDTO> getAllUsers() {
         log.info("Fetching all users");
-        List<User> users = userRepository.findAll();
+        List<UserResponseDTO> users = userRepository.findAllResponses();
         log.info("Found {} users", users.size());
-        return userMapper.toUserResponseDTOList(users);
+        return users;
+    }
+
+    /**
+     * Retrieves one page of users using keyset pagination.
+     * One extra row is fetched to learn whether a next page exists without a COUNT query.
+     * A role filter is served by that role's partial index, so filtered pages need no sort either.
+     * Rows are read as DTO projections, like getAllUsers.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<UserResponseDTO> getUsersPage(String cursor, int limit, Role role) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
 
+        List<UserResponseDTO> users;
+        if (role == null) {
+            log.info("Fetching page of users after {} (limit {})", after == null ? "start" : after.id(), pageSize);
+            users = after == null
+                    ? userRepository.findResponsePage(fetchLimit)
+                    : userRepository.findResponsePageAfter(after.createdAt(), after.id(), fetchLimit);
+        } else {
+            log.info("Fetching page of {} users after {} (limit {})", role, after == null ? "start" : after.id(), pageSize);
+            users = after == null
+                    ? userRepository.findResponsePageByRole(role, fetchLimit)
+                    : userRepository.findResponsePageAfterByRole(role, after.createdAt(), after.id(), fetchLimit);
+        }
+
+        boolean hasMore = users.size() > pageSize;
+        List<UserResponseDTO> pageItems = hasMore ? users.subList(0, pageSize) : users;
+        String nextCursor = null;
+        if (hasMore) {
+            UserResponseDTO last = pageItems.get(pageItems.size() - 1);
+            nextCursor = new UserCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDTO.<UserResponseDTO>builder()
+                .items(pageItems)
+                .limit(pageSize)
+                .nextCursor(nextCursor)
+                .build();
     }
-}
 
+    /**
+     * Retrieves a user by ID through the read-through cache.
+     * Deliberately not @Transactional: a cache hit must not check out a pooled connection.
+     */
+    @Override
+    public Optional<UserResponseDTO> getUserById(UUID id) {
+        log.debug("Fetching user with ID: {}", id);
+        return userResponseCache.get(id, userRepository::findResponseById);
+    }
 
+    /**
+     * Derives the directory version from the counter every write to app_users bumps in its own transaction.
+     * Unlike a timestamp taken before commit, it cannot be overtaken by a change that commits later.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getUsersVersion() {
+        return Long.toHexString(userRepository.findDirectoryVersion());
+    }
+}
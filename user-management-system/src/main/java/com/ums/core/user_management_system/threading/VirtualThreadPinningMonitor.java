@@ -0,0 +1,186 @@
+package com.ums.core.user_management_system.threading;
+
+import com.ums.core.user_management_system.config.PinningMonitorProperties;
+import com.ums.core.user_management_system.dto.PinningSiteDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, e.g. inside a synchronized block
+ * or a native frame. A pinned virtual thread holds one of the few carrier threads for the whole wait, so pinning
+ * in the JDBC driver or connection pool caps request concurrency at the number of CPUs.
+ *
+ * Pinning is observed through the JDK Flight Recorder event jdk.VirtualThreadPinned, streamed in-process.
+ * Events are grouped by their innermost non-JDK stack frames and classified as {@code jdbc} (driver frames
+ * on the stack), {@code pool} (HikariCP frames) or {@code other}. Each new site is logged once at WARN,
+ * every event is recorded in the timer ums.threads.virtual.pinned tagged by source, and the aggregated
+ * sites are served by the /actuator/pinning endpoint.
+ */
+@Endpoint(id = "pinning")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final List<String> DRIVER_PACKAGES = List.of("org.postgresql.", "org.h2.");
+    private static final String POOL_PACKAGE = "com.zaxxer.hikari.";
+
+    private final Duration threshold;
+    private final int maxFrames;
+    private final MeterRegistry meterRegistry;
+    private final Map<List<String>, Site> sites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(PinningMonitorProperties properties, MeterRegistry meterRegistry) {
+        this.threshold = properties.threshold();
+        this.maxFrames = properties.maxFrames();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Reporting virtual threads pinned for at least {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * @return All pinning sites seen since startup, the ones that cost the most carrier time first.
+     */
+    @ReadOperation
+    public List<PinningSiteDTO> pinningSites() {
+        return sites.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(Comparator.comparingDouble(PinningSiteDTO::getTotalMillis).reversed())
+                .toList();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = new ArrayList<>();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.isJavaFrame() && !frame.getMethod().getType().getName().contains("$$Lambda")) {
+                    frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber());
+                }
+            }
+        }
+        record(frames, event.getDuration().toNanos());
+    }
+
+    /**
+     * Adds one pinning event.
+     *
+     * @param frames        The Java frames of the pinned thread, innermost first.
+     * @param durationNanos How long the thread stayed pinned.
+     */
+    void record(List<String> frames, long durationNanos) {
+        String source = classify(frames);
+        List<String> siteFrames = siteFrames(frames, maxFrames);
+        Site site = sites.computeIfAbsent(siteFrames, key -> {
+            log.warn("Virtual thread pinned to its carrier for {} ms ({}):\n\tat {}",
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), source, String.join("\n\tat ", key));
+            return new Site(source);
+        });
+        site.add(durationNanos);
+        Timer.builder("ums.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String classify(List<String> frames) {
+        if (frames.stream().anyMatch(frame -> DRIVER_PACKAGES.stream().anyMatch(frame::startsWith))) {
+            return "jdbc";
+        }
+        if (frames.stream().anyMatch(frame -> frame.startsWith(POOL_PACKAGE))) {
+            return "pool";
+        }
+        return "other";
+    }
+
+    static List<String> siteFrames(List<String> frames, int maxFrames) {
+        int first = 0;
+        while (first < frames.size() && isJdkFrame(frames.get(first))) {
+            first++;
+        }
+        if (first == frames.size()) {
+            first = 0; // Pinned entirely inside the JDK; keep the JDK frames rather than nothing
+        }
+        return List.copyOf(frames.subList(first, Math.min(frames.size(), first + maxFrames)));
+    }
+
+    private static boolean isJdkFrame(String frame) {
+        return JDK_PACKAGES.stream().anyMatch(frame::startsWith);
+    }
+
+    /**
+     * Aggregated events of one pinning site.
+     */
+    private static final class Site {
+
+        private final String source;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        Site(String source) {
+            this.source = source;
+        }
+
+        void add(long durationNanos) {
+            count.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+        }
+
+        PinningSiteDTO toDTO(List<String> frames) {
+            return PinningSiteDTO.builder()
+                    .source(source)
+                    .frames(frames)
+                    .count(count.sum())
+                    .totalMillis(totalNanos.sum() / 1_000_000.0)
+                    .maxMillis(maxNanos.get() / 1_000_000.0)
+                    .build();
+        }
+    }
+}
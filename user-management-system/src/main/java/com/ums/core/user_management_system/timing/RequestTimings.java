@@ -0,0 +1,163 @@
+package com.ums.core.user_management_system.timing;
+
+/**
+ * Per-request accumulator of time spent in each {@link TimingPhase}, bound to the request thread by
+ * ServerTimingFilter.
+ *
+ * Code on the request path measures a phase with
+ * <pre>
+ *     long start = RequestTimings.start();
+ *     ...
+ *     RequestTimings.stop(TimingPhase.HASH, start);
+ * </pre>
+ * While Server-Timing is disabled (the default) the filter is not registered, start() returns 0 after a single
+ * volatile read and stop() returns immediately, so the probes neither allocate nor touch the thread-local map.
+ * Work on other threads (the hashing executor, background indexers) is never attributed to a request.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+
+    private static volatile boolean enabled;
+
+    private final long startNanos;
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long serializeStartNanos;
+
+    RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Switches the probes on for the lifetime of the JVM; called once ServerTimingFilter is created.
+     */
+    static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Binds a new recorder to the current thread.
+     */
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Unbinds the recorder from the current thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return The recorder of the request being handled on this thread, or null if timing is off.
+     */
+    public static RequestTimings current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * @return A start timestamp for {@link #stop}, or 0 if the current request is not being timed.
+     */
+    public static long start() {
+        return current() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time since {@code start} to the phase of the current request.
+     *
+     * @param phase The phase that just ended.
+     * @param start The value returned by {@link #start()}.
+     */
+    public static void stop(TimingPhase phase, long start) {
+        if (start != 0L) {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Adds an externally measured duration to the phase of the current request, if any.
+     *
+     * @param phase         The phase the work belongs to.
+     * @param durationNanos How long the work took.
+     */
+    public static void record(TimingPhase phase, long durationNanos) {
+        RequestTimings timings = current();
+        if (timings != null) {
+            timings.add(phase, durationNanos);
+        }
+    }
+
+    /**
+     * Ends the {@link TimingPhase#AUTH} phase: everything from the start of the request until the request
+     * leaves the Spring Security filter chain.
+     */
+    public static void markAuthenticated() {
+        RequestTimings timings = current();
+        if (timings != null && timings.counts[TimingPhase.AUTH.ordinal()] == 0) {
+            timings.add(TimingPhase.AUTH, System.nanoTime() - timings.startNanos);
+        }
+    }
+
+    void add(TimingPhase phase, long durationNanos) {
+        nanos[phase.ordinal()] += durationNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Marks the start of response body serialization; the phase ends with {@link #finishSerialize}.
+     */
+    void startSerialize() {
+        if (serializeStartNanos == 0L) {
+            serializeStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Closes an open serialization phase.
+     */
+    void finishSerialize(long nowNanos) {
+        if (serializeStartNanos != 0L) {
+            add(TimingPhase.SERIALIZE, nowNanos - serializeStartNanos);
+            serializeStartNanos = 0L;
+        }
+    }
+
+    /**
+     * Formats the phases recorded so far, plus the total, as a Server-Timing header value, e.g.
+     * {@code auth;dur=1.42, hash;dur=97.8, db;dur=3.1;count=2, total;dur=104.6}.
+     * A serialization still in progress is included up to {@code nowNanos}.
+     */
+    String format(long nowNanos) {
+        StringBuilder value = new StringBuilder(128);
+        for (TimingPhase phase : PHASES) {
+            long duration = nanos[phase.ordinal()];
+            int count = counts[phase.ordinal()];
+            if (phase == TimingPhase.SERIALIZE && serializeStartNanos != 0L) {
+                duration += nowNanos - serializeStartNanos;
+                count++;
+            }
+            if (count == 0) {
+                continue;
+            }
+            value.append(phase.metricName()).append(";dur=").append(millis(duration));
+            if (phase.counted()) {
+                value.append(";count=").append(count);
+            }
+            value.append(", ");
+        }
+        return value.append("total;dur=").append(millis(nowNanos - startNanos)).toString();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0; // Milliseconds, two decimals
+    }
+}
@@ -0,0 +1,104 @@
+package com.ums.core.user_management_system.timing;
+
+import com.ums.core.user_management_system.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Times each request by phase (see {@link TimingPhase}) and reports the breakdown in a Server-Timing
+ * response header and, for requests slower than {@code ums.server-timing.slow-request-threshold}, in the log.
+ *
+ * The header has to be set before the first byte of the body leaves the server, so it is written when the
+ * response is committed and the serialize phase it reports ends there. For bodies larger than the response
+ * buffer that is the time to the first flushed chunk; the log line covers the complete write.
+ * Asynchronous (streaming) responses get the header but are not logged, as they are long-running by design.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "Server-Timing";
+
+    private final boolean writeHeader;
+    private final long slowRequestNanos;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.writeHeader = properties.header();
+        this.slowRequestNanos = properties.slowRequestThreshold().toNanos();
+        RequestTimings.enable();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        TimingResponse timingResponse = new TimingResponse(response, timings);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            RequestTimings.end();
+            if (!request.isAsyncStarted()) {
+                complete(request, response, timingResponse, timings);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, TimingResponse timingResponse,
+                          RequestTimings timings) {
+        long now = System.nanoTime();
+        timingResponse.writeHeader(now); // Body still buffered, or no body at all
+        timings.finishSerialize(now);
+        if (now - timings.startNanos() >= slowRequestNanos) {
+            log.warn("Slow request {} {} -> {}: {}", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), timings.format(now));
+        }
+    }
+
+    /**
+     * Starts the serialize phase when the body is first requested and writes the header on commit.
+     */
+    private final class TimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestTimings timings;
+
+        TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            timings.startSerialize();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            timings.startSerialize();
+            return super.getWriter();
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader(System.nanoTime());
+        }
+
+        void writeHeader(long nowNanos) {
+            if (isDisableOnResponseCommitted() || isCommitted()) {
+                return;
+            }
+            disableOnResponseCommitted();
+            if (writeHeader) {
+                setHeader(HEADER_NAME, timings.format(nowNanos));
+            }
+        }
+    }
+}
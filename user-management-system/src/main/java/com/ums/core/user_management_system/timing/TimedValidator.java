@@ -0,0 +1,49 @@
+package com.ums.core.user_management_system.timing;
+
+import org.springframework.lang.Nullable;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator decorator that attributes Bean Validation of MVC arguments to the {@link TimingPhase#VALIDATE} phase.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    public TimedValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = RequestTimings.start();
+        delegate.validate(target, errors);
+        RequestTimings.stop(TimingPhase.VALIDATE, start);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = RequestTimings.start();
+        delegate.validate(target, errors, validationHints);
+        RequestTimings.stop(TimingPhase.VALIDATE, start);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, @Nullable Object value, Errors errors,
+                              Object... validationHints) {
+        long start = RequestTimings.start();
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+        RequestTimings.stop(TimingPhase.VALIDATE, start);
+    }
+
+    @Override
+    public <T> T unwrap(@Nullable Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ums.core.user_management_system.timing;
+
+/**
+ * Phases of a request reported in the Server-Timing header, in header order.
+ * Phases may overlap: e.g. the user lookup and password check during {@link #AUTH} are also counted as
+ * {@link #DB} and {@link #HASH}.
+ */
+public enum TimingPhase {
+
+    /** Spring Security filter chain, from request entry until the request reaches the application. */
+    AUTH("auth", false),
+    /** Bean Validation of request bodies and parameters. */
+    VALIDATE("validate", false),
+    /** BCrypt on behalf of the request, including the wait for the hashing executor. */
+    HASH("hash", false),
+    /** Spring Data repository calls; also reports how many were made. */
+    DB("db", true),
+    /** Writing the response body, until the response is committed (header) or complete (slow-request log). */
+    SERIALIZE("serialize", false);
+
+    private final String metricName;
+    private final boolean counted;
+
+    TimingPhase(String metricName, boolean counted) {
+        this.metricName = metricName;
+        this.counted = counted;
+    }
+
+    /**
+     * @return The metric name used in the Server-Timing header.
+     */
+    public String metricName() {
+        return metricName;
+    }
+
+    /**
+     * @return true if the number of occurrences is reported alongside the duration ({@code count=N}).
+     */
+    public boolean counted() {
+        return counted;
+    }
+}
@@ -0,0 +1,5 @@
+-- src/main/resources/db/migration/V2__Add_users_keyset_index.sql
+-- Description: Supports keyset (cursor) pagination of the user listing.
+
+-- Composite index matching the (created_at, id) sort key so every page is a bounded range scan
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON app_users(created_at, id);
@@ -0,0 +1,53 @@
+-- src/main/resources/db/migration/V3__Add_case_insensitive_lookup_indexes.sql
+-- Description: Adds normalized (lower-case) unique indexes used by every case-insensitive lookup.
+
+-- The repository compares LOWER(username)/LOWER(email); plain btree indexes on the raw columns cannot
+-- serve those predicates, so lookups degraded to sequential scans. Expression indexes match the
+-- predicate exactly and, being UNIQUE, also make 'JohnDoe' and 'johndoe' impossible to co-exist.
+--
+-- Runs outside a transaction (see the .conf file next to this script) so the indexes are built CONCURRENTLY:
+-- the table stays writable while they build.
+-- CONCURRENTLY waits for transactions already running to finish, so it needs
+-- spring.flyway.postgresql.transactional-lock=false (set in application.properties).
+
+-- Existing users differing only in case would make the unique index build fail halfway. Fail first, listing
+-- them, so they can be merged or renamed; then run flyway repair (a failed migration is recorded) and retry.
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(format('%s %L (%s users)', kind, value, cnt), ', ')
+    INTO duplicates
+    FROM (SELECT 'username' AS kind, LOWER(username) AS value, COUNT(*) AS cnt
+          FROM app_users GROUP BY LOWER(username) HAVING COUNT(*) > 1
+          UNION ALL
+          SELECT 'email', LOWER(email), COUNT(*)
+          FROM app_users GROUP BY LOWER(email) HAVING COUNT(*) > 1
+          ORDER BY 1, 2
+          LIMIT 100) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Users differ only in case, resolve them before retrying this migration: %', duplicates;
+    END IF;
+END
+$$;
+
+-- A failed concurrent build leaves an invalid index behind, which IF NOT EXISTS would then skip
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+               WHERE c.relname = 'uk_users_username_lower' AND NOT i.indisvalid) THEN
+        DROP INDEX uk_users_username_lower;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+               WHERE c.relname = 'uk_users_email_lower' AND NOT i.indisvalid) THEN
+        DROP INDEX uk_users_email_lower;
+    END IF;
+END
+$$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_users_username_lower ON app_users (LOWER(username));
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_users_email_lower ON app_users (LOWER(email));
+
+-- Superseded: nothing queries the raw columns without LOWER(), and the UNIQUE constraints from V1 remain
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_username;
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_email;
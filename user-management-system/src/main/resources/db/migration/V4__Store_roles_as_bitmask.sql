@@ -0,0 +1,29 @@
+-- src/main/resources/db/migration/V4__Store_roles_as_bitmask.sql
+-- Description: Replaces the user_roles collection table with a roles bitmask column on app_users
+-- (bit values as defined in the Role enum: ADMIN = 1, USER = 2), so loading a user reads a single row.
+
+ALTER TABLE app_users ADD COLUMN roles INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from user_roles. The role column holds the enum name, or its ordinal (0 = ADMIN, 1 = USER)
+-- for rows written while the entity mapping lacked @Enumerated(STRING).
+UPDATE app_users u
+SET roles = r.mask
+FROM (SELECT user_id,
+             bit_or(CASE role
+                        WHEN 'ADMIN' THEN 1
+                        WHEN '0' THEN 1
+                        WHEN 'USER' THEN 2
+                        WHEN '1' THEN 2
+                        ELSE 0
+                    END) AS mask
+      FROM user_roles
+      GROUP BY user_id) r
+WHERE r.user_id = u.id;
+
+DROP TABLE user_roles;
+
+-- Role-filtered listing: one partial (created_at, id) index per role bit, which yields that role's users already
+-- in keyset order. Queries must repeat the predicate with the literal bit, e.g. (roles & 2) <> 0, for the index
+-- to apply. A role added later needs its own index.
+CREATE INDEX idx_users_role_admin_created_at_id ON app_users (created_at, id) WHERE (roles & 1) <> 0;
+CREATE INDEX idx_users_role_user_created_at_id ON app_users (created_at, id) WHERE (roles & 2) <> 0;
@@ -0,0 +1,29 @@
+-- src/main/resources/db/migration/V5__Add_users_version_counter.sql
+-- Description: Adds the version behind the list ETags: a counter that every write to app_users bumps in its own
+-- transaction, so the version becomes visible exactly when the change does.
+-- (A timestamp taken before commit could be overtaken: a row stamped earlier but committed later would not move it.)
+
+-- The counter is spread over 16 slots and the version is their sum. Each writing connection bumps the slot of its
+-- backend, so concurrent writers rarely wait for each other's row lock until commit.
+CREATE TABLE IF NOT EXISTS app_users_version (
+    slot    SMALLINT PRIMARY KEY,
+    version BIGINT   NOT NULL DEFAULT 0
+);
+
+INSERT INTO app_users_version (slot)
+SELECT generate_series(0, 15)
+ON CONFLICT (slot) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_app_users_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE app_users_version SET version = version + 1 WHERE slot = pg_backend_pid() % 16;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Once per statement, so a batched multi-row insert costs one bump. Statements that touch no row bump too,
+-- which only costs clients one full response.
+DROP TRIGGER IF EXISTS trg_app_users_version ON app_users;
+CREATE TRIGGER trg_app_users_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON app_users
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_app_users_version();
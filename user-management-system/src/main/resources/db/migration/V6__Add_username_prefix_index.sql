@@ -0,0 +1,6 @@
+-- src/main/resources/db/migration/V6__Add_username_prefix_index.sql
+-- Description: Supports the case-insensitive username prefix search of the reactive read API
+-- (LOWER(username) LIKE 'abc%'). text_pattern_ops compares character by character, so the index serves
+-- LIKE prefixes regardless of the database collation.
+
+CREATE INDEX IF NOT EXISTS idx_users_username_lower_pattern ON app_users (LOWER(username) text_pattern_ops);
@@ -0,0 +1,12 @@
+-- src/main/resources/db/migration/V7__Add_username_natural_id.sql
+-- Description: Stores the lower-cased username as its own column, the natural id Hibernate caches users by.
+
+-- Generated by the database, so every writer (including SQL outside the application) keeps it in sync.
+-- Adding a stored generated column rewrites app_users once under an exclusive lock.
+ALTER TABLE app_users ADD COLUMN IF NOT EXISTS username_normalized VARCHAR(100)
+    GENERATED ALWAYS AS (LOWER(username)) STORED;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username_normalized ON app_users (username_normalized);
+
+-- Superseded: case-insensitive username lookups now compare username_normalized, which enforces the same uniqueness
+DROP INDEX IF EXISTS uk_users_username_lower;
@@ -0,0 +1,114 @@
+package com.ums.core.user_management_system.benchmark;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.mapper.UserMapper;
+import com.ums.core.user_management_system.mapper.UserMapperImpl;
+import com.ums.core.user_management_system.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the bytes allocated per "list all users" request by the old read path
+ * (findAll() entities + MapStruct mapping) and the DTO projection path (findAllResponses()).
+ * Each request runs in its own read-only transaction, as in UserServiceImpl, so the persistence
+ * context starts empty every time.
+ *
+ * Runs against embedded H2, whose own allocations are included on both sides; the difference
+ * between the two figures is what matters. Excluded from the default build; run with
+ * {@code ./mvnw test -Pbenchmark}.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(UserMapperImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Tag("benchmark")
+@DisplayName("User Read Path Allocation Benchmark")
+@Slf4j
+class UserReadPathAllocationBenchmarkTest {
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+    // The projection allocated about 2% of the entity path when this was written; half leaves room for noise
+    private static final double MAX_PROJECTION_TO_ENTITY_RATIO = 0.5;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setReadOnly(false);
+        if (userRepository.count() == 0) {
+            List<User> users = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                users.add(User.builder()
+                        .username("user" + i)
+                        .email("user" + i + "@example.com")
+                        .password("$2a$10$abcdefghijklmnopqrstuuN4lVxYhz0X9m8x9zWn3c3y9Fq5m2Yyq")
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .build());
+            }
+            userRepository.saveAll(users);
+        }
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("DTO projection should allocate less per request than entities plus mapping")
+    void projectionAllocatesLessThanEntityMapping() {
+        Supplier<List<UserResponseDTO>> entityPath = () -> userMapper.toUserResponseDTOList(userRepository.findAll());
+        Supplier<List<UserResponseDTO>> projectionPath = userRepository::findAllResponses;
+
+        long entityBytes = bytesPerRequest(entityPath);
+        long projectionBytes = bytesPerRequest(projectionPath);
+
+        double ratio = (double) projectionBytes / entityBytes;
+
+        log.info("List {} users: entities + mapper {} bytes/request, projection {} bytes/request (ratio {})",
+                USERS, entityBytes, projectionBytes, "%.3f".formatted(ratio));
+        assertThat(ratio).isLessThan(MAX_PROJECTION_TO_ENTITY_RATIO);
+    }
+
+    private long bytesPerRequest(Supplier<List<UserResponseDTO>> readPath) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            List<UserResponseDTO> users = transactionTemplate.execute(status -> readPath.get());
+            assertThat(users).hasSize(USERS);
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> readPath.get());
+        }
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+}
@@ -2,9 +2,18 @@ package com.ums.core.user_management_system.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ums.core.user_management_system.config.SecurityConfig;
+import com.ums.core.user_management_system.config.TokenConfig;
+import com.ums.core.user_management_system.dto.CursorPageResponseDTO;
+import com.ums.core.user_management_system.dto.UserAvailabilityDTO;
 import com.ums.core.user_management_system.dto.UserRequestDTO;
 import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.entity.Role;
 import com.ums.core.user_management_system.exception.DuplicateResourceException;
+import com.ums.core.user_management_system.exception.InvalidCursorException;
+import com.ums.core.user_management_system.exception.SearchIndexNotReadyException;
+import com.ums.core.user_management_system.service.UserAvailabilityService;
+import com.ums.core.user_management_system.service.UserSearchService;
 import com.ums.core.user_management_system.service.UserService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,9 +31,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
@@ -37,7 +51,7 @@ import static org.hamcrest.Matchers.hasSize;
 
 // Target UserController and import the SecurityConfig to apply security rules in the test context
 @WebMvcTest(UserController.class) // Focus test on UserController
-@Import(SecurityConfig.class) // Import the security configuration to apply its rules
+@Import({SecurityConfig.class, TokenConfig.class}) // Import the security configuration to apply its rules
 @AutoConfigureMockMvc // Configure MockMvc
 @DisplayName("UserController Web Layer Tests")
 class UserControllerTest {
@@ -51,12 +65,19 @@ class UserControllerTest {
     @MockBean // Create a Mockito mock for the UserService dependency
     private UserService userService;
 
+    @MockBean
+    private UserSearchService userSearchService;
+
+    @MockBean
+    private UserAvailabilityService userAvailabilityService;
 
     private UserRequestDTO validUserRequest;
     private UserRequestDTO invalidUserRequest_BlankUsername;
     private UserResponseDTO userResponse;
     private UUID testUserId;
 
+    private static final String USERS_VERSION = "6123a4b5c6d7e";
+
     @BeforeEach
     void setUp() {
         testUserId = UUID.randomUUID();
@@ -90,6 +111,8 @@ class UserControllerTest {
                 .createdAt(OffsetDateTime.now())
                 .updatedAt(OffsetDateTime.now())
                 .build();
+
+        given(userService.getUsersVersion()).willReturn(USERS_VERSION);
     }
 
     // --- Test POST /api/v1/users (Security: Anonymous Access - Permitted) ---
@@ -135,6 +158,49 @@ class UserControllerTest {
         verify(userService).getAllUsers(); // Verify service was called
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users - Should return the directory version as ETag and require revalidation")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void givenNoIfNoneMatch_whenGetUsers_thenReturnsETag() throws Exception {
+        given(userService.getAllUsers()).willReturn(List.of(userResponse));
+
+        mockMvc.perform(get("/api/v1/users")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + USERS_VERSION + "\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users - Should return 304 without loading users when If-None-Match matches")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void givenMatchingIfNoneMatch_whenGetUsers_thenReturns304() throws Exception {
+        mockMvc.perform(get("/api/v1/users")
+                        .header("If-None-Match", "\"" + USERS_VERSION + "\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + USERS_VERSION + "\""))
+                .andExpect(content().string(""));
+
+        verify(userService, never()).getAllUsers();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users - Should return 200 when If-None-Match holds an outdated version")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void givenStaleIfNoneMatch_whenGetUsers_thenReturns200() throws Exception {
+        given(userService.getAllUsers()).willReturn(List.of(userResponse));
+
+        mockMvc.perform(get("/api/v1/users")
+                        .header("If-None-Match", "\"0\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        verify(userService).getAllUsers();
+    }
+
     // --- Functional Tests (Copied/Adapted from Integration Test) ---
 
     @Test
@@ -165,4 +231,131 @@ class UserControllerTest {
 
         verify(userService, never()).createUser(any()); // Service should NOT be called if validation fails
     }
+
+    @Test
+    @DisplayName("GET /api/v1/users/page - Should return items and nextCursor, passing cursor and limit through")
+    void givenCursorAndLimit_whenGetUsersPage_thenReturnsPage() throws Exception {
+        CursorPageResponseDTO<UserResponseDTO> page = CursorPageResponseDTO.<UserResponseDTO>builder()
+                .items(List.of(userResponse))
+                .limit(1)
+                .nextCursor("next-token")
+                .build();
+        given(userService.getUsersPage("prev-token", 1, Role.ADMIN)).willReturn(page);
+
+        mockMvc.perform(get("/api/v1/users/page")
+                        .param("cursor", "prev-token")
+                        .param("limit", "1")
+                        .param("role", "admin")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].username", is("testuser")))
+                .andExpect(jsonPath("$.nextCursor", is("next-token")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/page - Should return 400 Bad Request for a malformed cursor")
+    void givenMalformedCursor_whenGetUsersPage_thenReturns400() throws Exception {
+        given(userService.getUsersPage(eq("garbage"), anyInt(), isNull()))
+                .willThrow(new InvalidCursorException("Invalid pagination cursor.", new IllegalArgumentException()));
+
+        mockMvc.perform(get("/api/v1/users/page").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/page - Should return 304 without loading the page when If-None-Match matches")
+    void givenMatchingIfNoneMatch_whenGetUsersPage_thenReturns304() throws Exception {
+        mockMvc.perform(get("/api/v1/users/page")
+                        .param("limit", "1")
+                        .header("If-None-Match", "\"" + USERS_VERSION + "\""))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getUsersPage(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{id} - Should return the user with an ETag")
+    void givenExistingUser_whenGetUserById_thenReturns200() throws Exception {
+        given(userService.getUserById(testUserId)).willReturn(Optional.of(userResponse));
+
+        mockMvc.perform(get("/api/v1/users/{id}", testUserId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.id", is(testUserId.toString())))
+                .andExpect(jsonPath("$.username", is("testuser")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{id} - Should return 304 when If-None-Match matches the user's ETag")
+    void givenMatchingIfNoneMatch_whenGetUserById_thenReturns304() throws Exception {
+        given(userService.getUserById(testUserId)).willReturn(Optional.of(userResponse));
+        String eTag = mockMvc.perform(get("/api/v1/users/{id}", testUserId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/users/{id}", testUserId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{id} - Should return 404 Not Found for an unknown ID")
+    void givenUnknownId_whenGetUserById_thenReturns404() throws Exception {
+        given(userService.getUserById(testUserId)).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/users/{id}", testUserId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/{id} - Should return 400 Bad Request for a malformed ID")
+    void givenMalformedId_whenGetUserById_thenReturns400() throws Exception {
+        mockMvc.perform(get("/api/v1/users/{id}", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUserById(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/search - Should return prefix matches from the search service")
+    void givenPrefix_whenSearchUsers_thenReturnsMatches() throws Exception {
+        given(userSearchService.search("te", 5)).willReturn(List.of(
+                UserSearchResultDTO.builder().id(testUserId).username("testuser").email("test@example.com").build()));
+
+        mockMvc.perform(get("/api/v1/users/search")
+                        .param("prefix", "te")
+                        .param("limit", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("testuser")));
+
+        verify(userService, never()).getUserById(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/search - Should return 503 while the search index is being built")
+    void givenIndexNotReady_whenSearchUsers_thenReturns503() throws Exception {
+        given(userSearchService.search("te", 10)).willThrow(new SearchIndexNotReadyException("Search index is not ready yet"));
+
+        mockMvc.perform(get("/api/v1/users/search").param("prefix", "te"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/users/availability - Should report availability of the given values")
+    void givenUsernameAndEmail_whenCheckAvailability_thenReturnsResult() throws Exception {
+        given(userAvailabilityService.checkAvailability("newuser", "taken@example.com"))
+                .willReturn(UserAvailabilityDTO.builder().usernameAvailable(true).emailAvailable(false).build());
+
+        mockMvc.perform(get("/api/v1/users/availability")
+                        .param("username", "newuser")
+                        .param("email", "taken@example.com")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable", is(true)))
+                .andExpect(jsonPath("$.emailAvailable", is(false)));
+    }
 }
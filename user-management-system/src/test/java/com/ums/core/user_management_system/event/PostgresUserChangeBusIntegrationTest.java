@@ -0,0 +1,170 @@
+package com.ums.core.user_management_system.event;
+
+import com.ums.core.user_management_system.config.CacheInvalidationProperties;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two invalidation bus instances ("nodes") against a real PostgreSQL and checks what each one
+ * publishes locally. Skipped automatically when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgresUserChangeBus Integration Tests")
+class PostgresUserChangeBusIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final CacheInvalidationProperties properties = new CacheInvalidationProperties(
+            true, "ums_user_changed", Duration.ofMillis(300), Duration.ofSeconds(1), Duration.ofMillis(100));
+
+    private final BlockingQueue<Object> eventsOnA = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Object> eventsOnB = new LinkedBlockingQueue<>();
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PostgresUserChangeBus nodeA;
+    private PostgresUserChangeBus nodeB;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        dataSource = new SingleConnectionDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // Just the columns the bus reads back for created users
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS app_users "
+                + "(id UUID PRIMARY KEY, username VARCHAR(100) NOT NULL, email VARCHAR(150) NOT NULL)");
+        nodeA = startNode("bus-a", eventsOnA);
+        nodeB = startNode("bus-b", eventsOnB);
+        awaitListeners(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("Should deliver a change to the other node as a remote event, but not back to the sender")
+    void change_isDeliveredToOtherNodesOnly() throws InterruptedException {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        nodeA.onUserChanged(new UserChangedEvent(id, "alice smith"));
+
+        // Then
+        assertThat(eventsOnB.poll(5, TimeUnit.SECONDS)).isEqualTo(new UserChangedEvent(id, "alice smith", true));
+        assertThat(eventsOnA.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not re-broadcast remote events")
+    void remoteEvent_isNotBroadcastAgain() throws InterruptedException {
+        nodeA.onUserChanged(new UserChangedEvent(UUID.randomUUID(), "alice", true));
+
+        assertThat(eventsOnB.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should coalesce a burst of changes to the same user into one eviction")
+    void burst_isCoalesced() throws InterruptedException {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            nodeA.onUserChanged(new UserChangedEvent(id, "alice"));
+        }
+
+        // Then
+        assertThat(eventsOnB.poll(5, TimeUnit.SECONDS)).isEqualTo(new UserChangedEvent(id, "alice", true));
+        assertThat(eventsOnB.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should deliver created users as one remote event read back in one query")
+    void creation_isDeliveredAsOneEvent() throws InterruptedException {
+        // Given: more users than fit into one notification
+        List<UserSearchResultDTO> users = IntStream.range(0, 250)
+                .mapToObj(i -> new UserSearchResultDTO(UUID.randomUUID(), "user" + i, "user" + i + "@example.com"))
+                .toList();
+        users.forEach(user -> jdbcTemplate.update("INSERT INTO app_users (id, username, email) VALUES (?, ?, ?)",
+                user.getId(), user.getUsername(), user.getEmail()));
+
+        // When
+        nodeA.onUsersCreated(new UsersCreatedEvent(users));
+
+        // Then
+        Object event = eventsOnB.poll(5, TimeUnit.SECONDS);
+        assertThat(event).isInstanceOf(UsersCreatedEvent.class);
+        assertThat(((UsersCreatedEvent) event).remote()).isTrue();
+        assertThat(((UsersCreatedEvent) event).users()).containsExactlyInAnyOrderElementsOf(users);
+        assertThat(eventsOnB.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(eventsOnA.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict everything after reconnecting, then keep receiving changes")
+    void lostConnection_flushesAllAfterReconnect() throws InterruptedException {
+        // Given: node B's listener connection is killed
+        jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = 'bus-b'");
+
+        // Then
+        assertThat(eventsOnB.poll(5, TimeUnit.SECONDS)).isInstanceOf(AllUsersChangedEvent.class);
+
+        // When
+        UUID id = UUID.randomUUID();
+        nodeA.onUserChanged(new UserChangedEvent(id, "alice"));
+
+        // Then
+        assertThat(eventsOnB.poll(5, TimeUnit.SECONDS)).isEqualTo(new UserChangedEvent(id, "alice", true));
+    }
+
+    private PostgresUserChangeBus startNode(String applicationName, BlockingQueue<Object> events) {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", postgres.getUsername());
+        connectionProperties.setProperty("password", postgres.getPassword());
+        connectionProperties.setProperty("ApplicationName", applicationName);
+        PostgresUserChangeBus bus = new PostgresUserChangeBus(properties, jdbcTemplate,
+                new UserExportRepository(dataSource),
+                () -> DriverManager.getConnection(postgres.getJdbcUrl(), connectionProperties), events::add);
+        bus.start();
+        return bus;
+    }
+
+    private void awaitListeners(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer listening = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity "
+                    + "WHERE application_name LIKE 'bus-%' AND query LIKE 'LISTEN%'", Integer.class);
+            if (listening != null && listening >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Listeners did not start");
+    }
+}
@@ -0,0 +1,143 @@
+package com.ums.core.user_management_system.event;
+
+import com.ums.core.user_management_system.config.CacheInvalidationProperties;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for the sending side and the payload format of PostgresUserChangeBus.
+ * Delivery between nodes is covered by PostgresUserChangeBusIntegrationTest.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresUserChangeBus Tests")
+class PostgresUserChangeBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private UserExportRepository userExportRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PostgresUserChangeBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new PostgresUserChangeBus(properties("ums_user_changed"), jdbcTemplate, userExportRepository,
+                () -> {
+                    throw new AssertionError("not started");
+                }, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should NOTIFY local changes and ignore its own notifications when they come back")
+    void localChange_isNotifiedAndOwnPayloadIgnored() {
+        // Given
+        UserChangedEvent event = new UserChangedEvent(UUID.randomUUID(), "alice");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        // When
+        bus.onUserChanged(event);
+
+        // Then
+        verify(jdbcTemplate).queryForList(eq("SELECT pg_notify(?, ?)"), eq("ums_user_changed"), payload.capture());
+        assertThat(bus.decode(payload.getValue())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should decode payloads of other nodes, keeping spaces in usernames")
+    void decode_otherNodePayload() {
+        UUID id = UUID.randomUUID();
+        String payload = PostgresUserChangeBus.encode(UUID.randomUUID().toString(), new UserChangedEvent(id, "alice smith"));
+
+        assertThat(bus.decode(payload)).isEqualTo(new UserChangedEvent(id, "alice smith", true));
+        assertThat(bus.decode(UUID.randomUUID() + " not-a-uuid alice")).isNull();
+        assertThat(bus.decode("garbage")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should neither broadcast remote events nor fail the caller when NOTIFY fails")
+    void remoteEventsAndFailures() {
+        bus.onUserChanged(new UserChangedEvent(UUID.randomUUID(), "alice", true));
+        verifyNoInteractions(jdbcTemplate);
+
+        given(jdbcTemplate.queryForList(anyString(), anyString(), anyString()))
+                .willThrow(new DataAccessResourceFailureException("database down"));
+        assertThatCode(() -> bus.onUserChanged(new UserChangedEvent(UUID.randomUUID(), "alice")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should NOTIFY created users in chunks of IDs and ignore its own notifications")
+    void localCreation_isNotifiedInChunks() {
+        // Given
+        List<UserSearchResultDTO> users = IntStream.range(0, 450)
+                .mapToObj(i -> new UserSearchResultDTO(UUID.randomUUID(), "user" + i, "user" + i + "@example.com"))
+                .toList();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+        // When
+        bus.onUsersCreated(new UsersCreatedEvent(users));
+
+        // Then: 200 + 200 + 50 IDs, each payload within PostgreSQL's 8000-byte limit
+        verify(jdbcTemplate, times(3)).queryForList(eq("SELECT pg_notify(?, ?)"), eq("ums_user_changed"),
+                payload.capture());
+        assertThat(payload.getAllValues()).allSatisfy(value -> {
+            assertThat(value.getBytes(StandardCharsets.UTF_8).length).isLessThan(8000);
+            assertThat(bus.decodeCreated(value)).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should decode created-users payloads of other nodes")
+    void decodeCreated_otherNodePayload() {
+        // Given
+        List<UserSearchResultDTO> users = List.of(new UserSearchResultDTO(UUID.randomUUID(), "alice", "a@example.com"),
+                new UserSearchResultDTO(UUID.randomUUID(), "bob", "b@example.com"));
+        String payload = PostgresUserChangeBus.encodeCreated(UUID.randomUUID().toString(), new UsersCreatedEvent(users))
+                .get(0);
+
+        // When / Then
+        assertThat(bus.decodeCreated(payload)).containsExactly(users.get(0).getId(), users.get(1).getId());
+        assertThat(bus.decodeCreated(UUID.randomUUID() + " " + users.get(0).getId() + " created")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject channel names that would need quoting")
+    void invalidChannel_isRejected() {
+        assertThatThrownBy(() -> new PostgresUserChangeBus(properties("users; DROP TABLE app_users"), jdbcTemplate,
+                userExportRepository, () -> null, eventPublisher))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CacheInvalidationProperties properties(String channel) {
+        return new CacheInvalidationProperties(true, channel, Duration.ofMillis(20), Duration.ofSeconds(30),
+                Duration.ofSeconds(2));
+    }
+}
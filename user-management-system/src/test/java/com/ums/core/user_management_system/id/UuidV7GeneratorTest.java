@@ -0,0 +1,100 @@
+package com.ums.core.user_management_system.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UuidV7Generator, mostly on a hand-driven clock.
+ */
+@DisplayName("UuidV7Generator Tests")
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+
+    @Test
+    @DisplayName("Should produce RFC 9562 version 7 UUIDs carrying the clock's milliseconds")
+    void generate_EncodesVersionVariantAndTimestamp() {
+        UUID uuid = new UuidV7Generator(() -> NOW).generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampMillis(uuid)).isEqualTo(NOW);
+        assertThat(uuid.toString()).startsWith("01941f29-7c00-7");
+    }
+
+    @Test
+    @DisplayName("Should stay strictly increasing within a millisecond, past counter overflow and when the clock steps back")
+    void generate_IsMonotonic() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        List<UUID> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5_000; i++) { // More than the 12-bit counter holds
+            ids.add(generator.generate());
+        }
+        clock.set(NOW - 1_000);
+        ids.add(generator.generate());
+        clock.set(NOW + 60_000);
+        ids.add(generator.generate());
+
+        // Then
+        assertThat(ids).isSortedAccordingTo(UUID::compareTo).doesNotHaveDuplicates();
+        assertThat(UuidV7Generator.timestampMillis(ids.get(4_999))).isGreaterThan(NOW); // Overflow borrowed ahead
+        assertThat(UuidV7Generator.timestampMillis(ids.get(ids.size() - 1))).isEqualTo(NOW + 60_000);
+    }
+
+    @Test
+    @DisplayName("Should hand out unique, per-thread increasing ids under contention")
+    void generate_IsSafeUnderConcurrency() throws Exception {
+        // Given
+        int threads = 8;
+        int idsPerThread = 20_000;
+        UuidV7Generator generator = new UuidV7Generator(System::currentTimeMillis);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Callable<List<UUID>> worker = () -> {
+            List<UUID> ids = new ArrayList<>(idsPerThread);
+            for (int i = 0; i < idsPerThread; i++) {
+                ids.add(generator.generate());
+            }
+            return ids;
+        };
+
+        // When
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(worker));
+        }
+        Set<UUID> all = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+            List<UUID> ids = future.get();
+            // Then
+            assertThat(ids).isSortedAccordingTo(UUID::compareTo);
+            all.addAll(ids);
+        }
+        executor.shutdown();
+        assertThat(all).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("Should refuse to read a timestamp from a random (version 4) UUID")
+    void timestampMillis_RejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7Generator.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
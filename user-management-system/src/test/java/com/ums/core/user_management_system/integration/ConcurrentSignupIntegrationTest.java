@@ -0,0 +1,111 @@
+package com.ums.core.user_management_system.integration;
+
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+import com.ums.core.user_management_system.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stress test for the race-safe insert path of POST /api/v1/users against a real PostgreSQL.
+ * Many clients try to claim the same username (or email) at the same instant; exactly one must
+ * win with 201 and every other request must receive a clean 409 - never a 500.
+ * Skipped automatically when Docker is not available.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Concurrent Signup Integration Tests")
+class ConcurrentSignupIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    /**
+     * Fires all requests at once (released by a shared latch) and returns their status codes.
+     */
+    private List<HttpStatusCode> signUpConcurrently(IntFunction<UserRequestDTO> requestForIndex) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                UserRequestDTO request = requestForIndex.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.postForEntity("/api/v1/users", request, String.class);
+                }));
+            }
+            start.countDown();
+            List<HttpStatusCode> statuses = new ArrayList<>();
+            for (Future<ResponseEntity<String>> future : futures) {
+                statuses.add(future.get().getStatusCode());
+            }
+            return statuses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent signups with the same username (different case) yield one 201 and only 409s")
+    void givenSameUsername_whenSignUpConcurrently_thenExactlyOneWins() throws Exception {
+        List<HttpStatusCode> statuses = signUpConcurrently(i -> UserRequestDTO.builder()
+                .username(i % 2 == 0 ? "racer" : "RACER")
+                .email("racer" + i + "@example.com")
+                .password("password123")
+                .build());
+
+        assertThat(statuses).filteredOn(s -> s.value() == 201).hasSize(1);
+        assertThat(statuses).filteredOn(s -> s.value() == 409).hasSize(CONCURRENT_REQUESTS - 1);
+        assertThat(statuses).noneMatch(HttpStatusCode::is5xxServerError);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Concurrent signups with the same email yield one 201 and only 409s")
+    void givenSameEmail_whenSignUpConcurrently_thenExactlyOneWins() throws Exception {
+        List<HttpStatusCode> statuses = signUpConcurrently(i -> UserRequestDTO.builder()
+                .username("racer" + i)
+                .email("Shared@Example.com")
+                .password("password123")
+                .build());
+
+        assertThat(statuses).filteredOn(s -> s.value() == 201).hasSize(1);
+        assertThat(statuses).filteredOn(s -> s.value() == 409).hasSize(CONCURRENT_REQUESTS - 1);
+        assertThat(statuses).noneMatch(HttpStatusCode::is5xxServerError);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+}
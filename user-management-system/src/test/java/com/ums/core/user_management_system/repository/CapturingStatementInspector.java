@@ -0,0 +1,44 @@
+package com.ums.core.user_management_system.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate StatementInspector that records every SQL statement Hibernate prepares,
+ * so tests can inspect (e.g. EXPLAIN) the exact SQL a repository method issues.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * @return The number of captured statements that touch the given table.
+     */
+    public static long countOn(String table) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains(table))
+                .count();
+    }
+
+    /**
+     * @return The first captured statement that reads from the given table.
+     */
+    public static String firstStatementOn(String table) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains(table))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No SQL captured for table " + table + ": " + STATEMENTS));
+    }
+}
@@ -0,0 +1,129 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ReactiveUserRepository against an in-memory H2 database over R2DBC.
+ * The table is created by hand with the columns the queries read (Flyway migrations target PostgreSQL).
+ */
+@DisplayName("ReactiveUserRepository Tests")
+class ReactiveUserRepositoryTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private DatabaseClient databaseClient;
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(H2ConnectionFactory.inMemory("reactive-" + UUID.randomUUID()));
+        databaseClient.sql("""
+                CREATE TABLE app_users (
+                    id UUID PRIMARY KEY,
+                    username VARCHAR(50) NOT NULL,
+                    email VARCHAR(100) NOT NULL,
+                    password VARCHAR(255) NOT NULL,
+                    first_name VARCHAR(50),
+                    last_name VARCHAR(50),
+                    phone_number VARCHAR(20),
+                    is_active BOOLEAN NOT NULL,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL)
+                """).then().block();
+        reactiveUserRepository = new ReactiveUserRepository(databaseClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("DROP ALL OBJECTS").then().block();
+    }
+
+    private UUID insertUser(String username, int minutesAfterStart) {
+        UUID id = UUID.randomUUID();
+        OffsetDateTime createdAt = T0.plusMinutes(minutesAfterStart);
+        databaseClient.sql("INSERT INTO app_users (id, username, email, password, first_name, is_active, created_at, updated_at)"
+                        + " VALUES (:id, :username, :email, 'hashed', :firstName, TRUE, :createdAt, :createdAt)")
+                .bind("id", id)
+                .bind("username", username)
+                .bind("email", username.toLowerCase() + "@example.com")
+                .bind("firstName", "First " + username)
+                .bind("createdAt", createdAt)
+                .then().block();
+        return id;
+    }
+
+    private static List<String> usernames(List<UserResponseDTO> users) {
+        return users.stream().map(UserResponseDTO::getUsername).toList();
+    }
+
+    @Test
+    @DisplayName("findFirst returns users in creation order up to the limit")
+    void findFirst_ReturnsOldestUsersFirst() {
+        // Given
+        insertUser("carol", 3);
+        insertUser("alice", 1);
+        insertUser("bob", 2);
+
+        // When
+        List<UserResponseDTO> firstTwo = reactiveUserRepository.findFirst(2).collectList().block();
+        List<UserResponseDTO> all = reactiveUserRepository.findAll().collectList().block();
+
+        // Then
+        assertThat(usernames(firstTwo)).containsExactly("alice", "bob");
+        assertThat(usernames(all)).containsExactly("alice", "bob", "carol");
+    }
+
+    @Test
+    @DisplayName("findById maps every column and is empty for an unknown ID")
+    void findById_MapsColumns() {
+        // Given
+        UUID id = insertUser("alice", 1);
+
+        // When
+        UserResponseDTO user = reactiveUserRepository.findById(id).block();
+
+        // Then
+        assertThat(user).isNotNull();
+        assertThat(user.getId()).isEqualTo(id);
+        assertThat(user.getEmail()).isEqualTo("alice@example.com");
+        assertThat(user.getFirstName()).isEqualTo("First alice");
+        assertThat(user.getLastName()).isNull();
+        assertThat(user.isActive()).isTrue();
+        assertThat(user.getCreatedAt()).isEqualTo(T0.plusMinutes(1));
+        assertThat(reactiveUserRepository.findById(UUID.randomUUID()).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findByUsernameLike matches case-insensitively, ordered by username, up to the limit")
+    void findByUsernameLike_MatchesLowerCasedUsernames() {
+        // Given
+        insertUser("JohnDoe", 1);
+        insertUser("johanna", 2);
+        insertUser("joe_b", 3);
+        insertUser("joeXb", 4);
+        insertUser("mary", 5);
+
+        // When
+        List<UserResponseDTO> jo = reactiveUserRepository.findByUsernameLike("jo%", 10).collectList().block();
+        List<UserResponseDTO> limited = reactiveUserRepository.findByUsernameLike("jo%", 2).collectList().block();
+        List<UserResponseDTO> escaped = reactiveUserRepository.findByUsernameLike("joe\\_%", 10).collectList().block();
+
+        // Then
+        assertThat(usernames(jo)).containsExactly("joe_b", "joeXb", "johanna", "JohnDoe");
+        assertThat(usernames(limited)).containsExactly("joe_b", "joeXb");
+        assertThat(usernames(escaped)).containsExactly("joe_b");
+    }
+}
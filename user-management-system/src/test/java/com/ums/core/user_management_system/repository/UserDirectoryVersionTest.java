@@ -0,0 +1,88 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the directory version behind the list ETags against a real PostgreSQL (the counter and its trigger
+ * come from the V5 migration). Each test runs in a transaction that is rolled back, which is exactly the window
+ * in which other connections must not see the new version yet.
+ * Skipped automatically when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("User Directory Version Tests")
+class UserDirectoryVersionTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Inserting a user should bump the version, visible to others only once committed")
+    void givenInsert_whenFindDirectoryVersion_thenBumpedInTheWritingTransactionOnly() throws SQLException {
+        // Given
+        long before = userRepository.findDirectoryVersion();
+
+        // When
+        userRepository.saveAndFlush(User.builder()
+                .username("versioned" + System.nanoTime())
+                .email("versioned" + System.nanoTime() + "@example.com")
+                .password("x")
+                .roles(EnumSet.of(Role.USER))
+                .build());
+
+        // Then
+        assertThat(userRepository.findDirectoryVersion()).isGreaterThan(before);
+        assertThat(versionSeenByAnotherConnection()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("A multi-row insert should bump the version once")
+    void givenMultiRowInsert_whenFindDirectoryVersion_thenBumpedOnce() {
+        long before = userRepository.findDirectoryVersion();
+
+        jdbcTemplate.update("INSERT INTO app_users (username, email, password, roles) "
+                + "SELECT 'bulk' || i, 'bulk' || i || '@example.com', 'x', 2 FROM generate_series(1, 100) AS i");
+
+        assertThat(userRepository.findDirectoryVersion()).isEqualTo(before + 1);
+    }
+
+    private long versionSeenByAnotherConnection() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(SUM(version), 0) FROM app_users_version")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.entity.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the index usage of the hot repository queries against a real PostgreSQL
+ * (the Flyway migrations are applied, so the production indexes exist).
+ * Each repository method is executed once to capture the exact SQL Hibernate issues,
+ * which is then EXPLAINed with sequential scans disabled: if no index can serve the
+ * predicate the planner still falls back to a Seq Scan and the test fails.
+ * Skipped automatically when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ums.core.user_management_system.repository.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserRepository Query Plan Tests")
+class UserRepositoryQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * EXPLAINs the given SQL (with JDBC '?' placeholders) using the supplied literal parameter values.
+     * Surplus values are ignored, e.g. when Hibernate inlines a row limit instead of binding it.
+     */
+    private String explain(String sql, String... params) {
+        StringBuilder numbered = new StringBuilder();
+        int index = 1;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(index++);
+            } else {
+                numbered.append(c);
+            }
+        }
+        jdbcTemplate.execute("PREPARE plan_check AS " + numbered);
+        try {
+            String args = Arrays.stream(params, 0, index - 1)
+                    .map(p -> "'" + p.replace("'", "''") + "'")
+                    .collect(Collectors.joining(", "));
+            List<String> plan = jdbcTemplate.queryForList("EXPLAIN EXECUTE plan_check(" + args + ")", String.class);
+            return String.join("\n", plan);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE plan_check");
+        }
+    }
+
+    private String capturedSql() {
+        return CapturingStatementInspector.firstStatementOn("app_users");
+    }
+
+    @Test
+    @DisplayName("findByUsernameIgnoreCase should use the normalized username index")
+    void findByUsernameIgnoreCase_shouldUseNormalizedUsernameIndex() {
+        userRepository.findByUsernameIgnoreCase("JohnDoe");
+
+        String plan = explain(capturedSql(), "johndoe");
+
+        assertThat(plan).contains("uk_users_username_normalized").doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("findByEmailIgnoreCase should use the lower(email) index")
+    void findByEmailIgnoreCase_shouldUseLowerEmailIndex() {
+        userRepository.findByEmailIgnoreCase("John@Example.com");
+
+        String plan = explain(capturedSql(), "John@Example.com");
+
+        assertThat(plan).contains("uk_users_email_lower").doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("existsByUsernameIgnoreCase should use the normalized username index")
+    void existsByUsernameIgnoreCase_shouldUseNormalizedUsernameIndex() {
+        userRepository.existsByUsernameIgnoreCase("JohnDoe");
+
+        String plan = explain(capturedSql(), "JohnDoe");
+
+        assertThat(plan).contains("uk_users_username_normalized").doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("existsByEmailIgnoreCase should use the lower(email) index")
+    void existsByEmailIgnoreCase_shouldUseLowerEmailIndex() {
+        userRepository.existsByEmailIgnoreCase("John@Example.com");
+
+        String plan = explain(capturedSql(), "John@Example.com");
+
+        assertThat(plan).contains("uk_users_email_lower").doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("findConflictingUsernamesAndEmails should use both lower-case indexes")
+    void findConflictingUsernamesAndEmails_shouldUseBothLowerIndexes() {
+        userRepository.findConflictingUsernamesAndEmails(Set.of("johndoe"), Set.of("john@example.com"));
+
+        String plan = explain(capturedSql(), "johndoe", "john@example.com");
+
+        assertThat(plan)
+                .contains("uk_users_username_normalized")
+                .contains("uk_users_email_lower")
+                .doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("findResponsePageAfter should seek into the (created_at, id) index")
+    void findResponsePageAfter_shouldUseKeysetIndex() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+        UUID id = UUID.randomUUID();
+        userRepository.findResponsePageAfter(createdAt, id, Limit.of(51));
+
+        String plan = explain(capturedSql(), createdAt.toString(), id.toString(), "51");
+
+        assertThat(plan).contains("idx_users_created_at_id").doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("findResponsePageAfterByRole(ADMIN) should read the ADMIN partial index in keyset order")
+    void findResponsePageAfterByRole_admin_shouldUseAdminIndexWithoutSort() {
+        insertRealisticRoleDistribution();
+        OffsetDateTime createdAt = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+        UUID id = UUID.randomUUID();
+        userRepository.findResponsePageAfterByRole(Role.ADMIN, createdAt, id, Limit.of(51));
+
+        String plan = explain(capturedSql(), createdAt.toString(), id.toString(), "51");
+
+        assertThat(plan).contains("idx_users_role_admin_created_at_id")
+                .doesNotContain("Sort")
+                .doesNotContain("Seq Scan on app_users");
+    }
+
+    @Test
+    @DisplayName("findResponsePageByRole(USER) should read the USER partial index in keyset order")
+    void findResponsePageByRole_user_shouldUseUserIndexWithoutSort() {
+        // Nearly every user holds USER, so the planner is free to scan: this is the plan production gets
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = on");
+        insertRealisticRoleDistribution();
+        userRepository.findResponsePageByRole(Role.USER, Limit.of(51));
+
+        String plan = explain(capturedSql(), "51");
+
+        assertThat(plan).contains("idx_users_role_user_created_at_id")
+                .doesNotContain("Sort")
+                .doesNotContain("Seq Scan on app_users");
+    }
+
+    /**
+     * On an empty table any index is equally cheap; give the planner the realistic shape of a directory
+     * where everybody is a USER and one in a thousand is also an ADMIN.
+     */
+    private void insertRealisticRoleDistribution() {
+        jdbcTemplate.update("INSERT INTO app_users (username, email, password, roles) "
+                + "SELECT 'user' || i, 'user' || i || '@example.com', 'x', CASE WHEN i % 1000 = 0 THEN 3 ELSE 2 END "
+                + "FROM generate_series(1, 20000) AS i");
+        jdbcTemplate.execute("ANALYZE app_users");
+    }
+}
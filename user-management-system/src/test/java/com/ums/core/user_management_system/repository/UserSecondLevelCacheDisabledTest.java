@@ -0,0 +1,68 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that Hibernate's second-level cache stays off when HibernateCacheConfig is not loaded, although
+ * hibernate-jcache is on the classpath. Runs without a test transaction, like UserSecondLevelCacheTest, so a
+ * lookup would reach the cache if it were on.
+ * Skipped automatically when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("User Second-Level Cache Disabled Tests")
+class UserSecondLevelCacheDisabledTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Lookups by username and ID leave the second-level cache empty")
+    void givenNoHibernateCacheConfig_whenLookup_thenNothingIsCached() {
+        // Given
+        String username = "Uncached" + System.nanoTime();
+        UUID userId = jdbcTemplate.queryForObject("INSERT INTO app_users (username, email, password, roles) "
+                + "VALUES (?, ?, 'x', 2) RETURNING id", UUID.class, username, username + "@example.com");
+
+        // When
+        assertThat(userRepository.findByUsernameIgnoreCase(username)).map(User::getId).contains(userId);
+        assertThat(userRepository.findById(userId)).isPresent();
+
+        // Then
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Cache cache = sessionFactory.getCache();
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+        assertThat(cache.containsEntity(User.class, userId)).isFalse();
+    }
+}
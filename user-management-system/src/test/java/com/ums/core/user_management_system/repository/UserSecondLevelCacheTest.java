@@ -0,0 +1,145 @@
+package com.ums.core.user_management_system.repository;
+
+import com.ums.core.user_management_system.config.HibernateCacheConfig;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.service.UserSecondLevelCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that username lookups are served by Hibernate's second-level cache against a real PostgreSQL
+ * (username_normalized is generated by the database, see V7).
+ * {@code @DataJpaTest} leaves the cache off; this test imports HibernateCacheConfig to turn it on.
+ * Runs without a test transaction, like authentication does, so every lookup uses its own persistence context.
+ * Skipped automatically when Docker is not available.
+ */
+@DataJpaTest(properties = {"ums.hibernate-cache.enabled=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ums.core.user_management_system.repository.CapturingStatementInspector"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HibernateCacheConfig.class, UserSecondLevelCache.class, UserSecondLevelCacheTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("User Second-Level Cache Tests")
+class UserSecondLevelCacheTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        // Inserted with SQL, so the cache only learns about the user from the first lookup
+        String username = "Cached" + System.nanoTime();
+        userId = jdbcTemplate.queryForObject("INSERT INTO app_users (username, email, password, roles) "
+                + "VALUES (?, ?, 'x', 2) RETURNING id", UUID.class, username, username + "@example.com");
+        eventPublisher.publishEvent(new AllUsersChangedEvent());
+        CapturingStatementInspector.clear();
+    }
+
+    private String username() {
+        return jdbcTemplate.queryForObject("SELECT username FROM app_users WHERE id = ?", String.class, userId);
+    }
+
+    private long lookupStatements(String username) {
+        CapturingStatementInspector.clear();
+        Optional<User> user = userRepository.findByUsernameIgnoreCase(username);
+        assertThat(user).map(User::getId).contains(userId);
+        return CapturingStatementInspector.countOn("app_users");
+    }
+
+    private double naturalIdHits() {
+        return meterRegistry.get("cache.gets").tag("cache", User.NATURAL_ID_CACHE_REGION)
+                .tag("result", "hit").functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Repeated lookups by username, in any case, do not query the database")
+    void findByUsernameIgnoreCase_servedFromCacheAfterFirstLookup() {
+        // Given
+        String username = username();
+        double hitsBefore = naturalIdHits();
+
+        // When / Then
+        assertThat(lookupStatements(username)).isEqualTo(1);
+        assertThat(lookupStatements(username.toUpperCase())).isZero();
+        assertThat(lookupStatements(username.toLowerCase())).isZero();
+        assertThat(naturalIdHits() - hitsBefore).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("A change made on another node evicts the cached user but keeps its natural id")
+    void remoteChange_EvictsEntityOnly() {
+        // Given
+        String username = username();
+        lookupStatements(username);
+
+        // When
+        jdbcTemplate.update("UPDATE app_users SET is_active = FALSE WHERE id = ?", userId);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, username, true));
+
+        // Then
+        CapturingStatementInspector.clear();
+        assertThat(userRepository.findByUsernameIgnoreCase(username)).hasValueSatisfying(
+                user -> assertThat(user.isActive()).isFalse());
+        assertThat(CapturingStatementInspector.firstStatementOn("app_users")).contains("id=?");
+        assertThat(CapturingStatementInspector.countOn("app_users")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Unknown usernames are not cached and are queried every time")
+    void unknownUsername_IsNotCached() {
+        for (int i = 0; i < 2; i++) {
+            CapturingStatementInspector.clear();
+            assertThat(userRepository.findByUsernameIgnoreCase("nobody")).isEmpty();
+            assertThat(CapturingStatementInspector.countOn("app_users")).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ums.core.user_management_system.search;
+
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory username/email prefix index.
+ */
+@DisplayName("UserPrefixIndex Tests")
+class UserPrefixIndexTest {
+
+    private UserPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserPrefixIndex();
+    }
+
+    private static UserSearchResultDTO user(String username, String email) {
+        return new UserSearchResultDTO(UUID.randomUUID(), username, email);
+    }
+
+    @Test
+    @DisplayName("Should match username prefixes case-insensitively, in alphabetical order")
+    void search_matchesUsernamePrefixIgnoringCase() {
+        // Given
+        index.put(user("Bob", "bob@example.com"));
+        index.put(user("alice", "alice@example.com"));
+        index.put(user("Alfred", "alfred@example.com"));
+
+        // When
+        List<UserSearchResultDTO> matches = index.search("AL", 10);
+
+        // Then
+        assertThat(matches).extracting(UserSearchResultDTO::getUsername).containsExactly("Alfred", "alice");
+    }
+
+    @Test
+    @DisplayName("Should list username matches before email matches and return each user once")
+    void search_usernameMatchesFirstWithoutDuplicates() {
+        // Given
+        index.put(user("carol", "carol@example.com"));
+        index.put(user("zed", "carla@example.com"));
+
+        // When
+        List<UserSearchResultDTO> matches = index.search("car", 10);
+
+        // Then
+        assertThat(matches).extracting(UserSearchResultDTO::getUsername).containsExactly("carol", "zed");
+    }
+
+    @Test
+    @DisplayName("Should stop after the limit")
+    void search_respectsLimit() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            index.put(user("user" + i, "user" + i + "@example.com"));
+        }
+
+        // When / Then
+        assertThat(index.search("user", 5)).hasSize(5);
+        assertThat(index.size()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should replace the old keys when a user is re-indexed under a new username")
+    void put_replacesPreviousEntryForSameId() {
+        // Given
+        UserSearchResultDTO original = user("dave", "dave@example.com");
+        index.put(original);
+
+        // When
+        index.put(new UserSearchResultDTO(original.getId(), "david", "david@example.com"));
+
+        // Then
+        assertThat(index.search("dave", 10)).isEmpty();
+        assertThat(index.search("david", 10)).extracting(UserSearchResultDTO::getId).containsExactly(original.getId());
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a removed user from both key spaces")
+    void remove_dropsUser() {
+        // Given
+        UserSearchResultDTO erin = user("erin", "erin@example.com");
+        index.put(erin);
+
+        // When
+        index.remove(erin.getId());
+
+        // Then
+        assertThat(index.search("erin", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ums.core.user_management_system.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BCryptStrengthCalibrator with a simulated hash timer.
+ */
+@DisplayName("BCryptStrengthCalibrator Tests")
+class BCryptStrengthCalibratorTest {
+
+    /** Simulates a node on which strength 10 takes the given time and each step doubles it. */
+    private static BCryptStrengthCalibrator nodeWithStrength10Taking(long millis) {
+        return new BCryptStrengthCalibrator(strength -> Duration.ofMillis(millis << (strength - 10)));
+    }
+
+    @Test
+    @DisplayName("Should pick the highest strength within the budget")
+    void calibrate_picksHighestStrengthWithinBudget() {
+        // 10 -> 20ms, 11 -> 40ms, 12 -> 80ms, 13 -> 160ms
+        assertThat(nodeWithStrength10Taking(20).calibrate(Duration.ofMillis(100), 10, 14)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should never go below the minimum strength on a slow node")
+    void calibrate_respectsMinimum() {
+        assertThat(nodeWithStrength10Taking(500).calibrate(Duration.ofMillis(100), 10, 14)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should never exceed the maximum strength on a fast node")
+    void calibrate_respectsMaximum() {
+        assertThat(nodeWithStrength10Taking(1).calibrate(Duration.ofMillis(100), 10, 14)).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("Should use the median sample so a single slow run does not skew the result")
+    void calibrate_usesMedian() {
+        int[] calls = {0};
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(strength ->
+                Duration.ofMillis(calls[0]++ == 2 ? 1_000 : 20));
+
+        assertThat(calibrator.calibrate(Duration.ofMillis(100), 10, 14)).isEqualTo(12);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ums.core.user_management_system.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CredentialCachingPasswordEncoder using a counting delegate.
+ */
+@DisplayName("CredentialCachingPasswordEncoder Tests")
+class CredentialCachingPasswordEncoderTest {
+
+    private final AtomicInteger delegateMatches = new AtomicInteger();
+    private final PasswordEncoder countingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            delegateMatches.incrementAndGet();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    };
+
+    private CredentialCachingPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new CredentialCachingPasswordEncoder(countingEncoder, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should verify a correct credential only once within the TTL")
+    void matches_cachesSuccessfulVerification() {
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+
+        assertThat(delegateMatches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should never cache a failed verification")
+    void matches_doesNotCacheFailures() {
+        assertThat(encoder.matches("wrong", "hashed:secret")).isFalse();
+        assertThat(encoder.matches("wrong", "hashed:secret")).isFalse();
+
+        assertThat(delegateMatches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should miss the cache once the stored hash changes")
+    void matches_missesAfterPasswordChange() {
+        encoder.matches("secret", "hashed:secret");
+
+        assertThat(encoder.matches("secret", "hashed:other")).isFalse();
+        assertThat(delegateMatches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the plaintext out of the cache keys")
+    void cacheKeys_doNotContainPlaintext() {
+        encoder.matches("secret", "hashed:secret");
+
+        assertThat(encoder.cache().asMap().keySet())
+                .singleElement()
+                .satisfies(key -> assertThat(key).doesNotContain("secret"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ums.core.user_management_system.security;
+
+import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.entity.RoleSetConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the role bitmask encoding and the shared authority sets.
+ */
+@DisplayName("RoleAuthorities Tests")
+class RoleAuthoritiesTest {
+
+    private final RoleSetConverter converter = new RoleSetConverter();
+
+    @Test
+    @DisplayName("Should round-trip every role combination through the bitmask column")
+    void converter_roundTripsAllCombinations() {
+        for (int mask = 0; mask < Role.MASK_COMBINATIONS; mask++) {
+            Set<Role> roles = converter.convertToEntityAttribute(mask);
+            assertThat(converter.convertToDatabaseColumn(roles)).isEqualTo(mask);
+        }
+        assertThat(converter.convertToDatabaseColumn(null)).isZero();
+        assertThat(converter.convertToDatabaseColumn(EnumSet.of(Role.ADMIN, Role.USER))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should hand out the same immutable ROLE_ set for equal role combinations")
+    void of_returnsSharedImmutableSets() {
+        Set<?> first = RoleAuthorities.of(EnumSet.of(Role.USER, Role.ADMIN));
+        Set<?> second = RoleAuthorities.of(Set.of(Role.ADMIN, Role.USER));
+
+        assertThat(first).isSameAs(second).extracting("authority").containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+        assertThat(RoleAuthorities.of(null)).isEmpty();
+        assertThatThrownBy(() -> first.clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the shared set when a principal is built or copied")
+    void userPrincipal_sharesAuthorities() {
+        Set<?> authorities = RoleAuthorities.of(Set.of(Role.USER));
+        UserPrincipal principal = new UserPrincipal(null, "alice", "hashed", true, RoleAuthorities.of(Set.of(Role.USER)));
+
+        assertThat(principal.getAuthorities()).isSameAs(authorities);
+        assertThat(new UserPrincipal(principal).getAuthorities()).isSameAs(authorities);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ums.core.user_management_system.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the BCrypt timing decorator.
+ */
+@DisplayName("TimedPasswordEncoder Tests")
+class TimedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+    }
+
+    private long count(String operation) {
+        return meterRegistry.get(TimedPasswordEncoder.METRIC_NAME).tag("operation", operation).timer().count();
+    }
+
+    @Test
+    @DisplayName("Should time encode and matches separately while delegating unchanged")
+    void encodeAndMatches_areTimedPerOperation() {
+        // When
+        String hash = encoder.encode("password123");
+        boolean matches = encoder.matches("password123", hash);
+        boolean mismatches = encoder.matches("wrong", hash);
+
+        // Then
+        assertThat(matches).isTrue();
+        assertThat(mismatches).isFalse();
+        assertThat(count("encode")).isEqualTo(1);
+        assertThat(count("matches")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should delegate upgradeEncoding so weaker hashes are still re-hashed")
+    void upgradeEncoding_isDelegated() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        TimedPasswordEncoder stronger = new TimedPasswordEncoder(new BCryptPasswordEncoder(5), meterRegistry);
+
+        assertThat(stronger.upgradeEncoding(weakHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(weakHash)).isFalse();
+    }
+}
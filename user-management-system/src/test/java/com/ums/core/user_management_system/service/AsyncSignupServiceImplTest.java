@@ -0,0 +1,218 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.config.AsyncSignupProperties;
+import com.ums.core.user_management_system.dto.BatchItemResultDTO;
+import com.ums.core.user_management_system.dto.BatchItemStatus;
+import com.ums.core.user_management_system.dto.SignupJobDTO;
+import com.ums.core.user_management_system.dto.SignupJobStatus;
+import com.ums.core.user_management_system.dto.UserBatchResponseDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.exception.DuplicateResourceException;
+import com.ums.core.user_management_system.exception.ResourceNotFoundException;
+import com.ums.core.user_management_system.exception.ServiceOverloadedException;
+import com.ums.core.user_management_system.service.impl.AsyncSignupServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * Unit tests for AsyncSignupServiceImpl.
+ * The writer thread is not started; queued signups are written by invoking the package-private writeQueued step.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncSignupServiceImpl Tests")
+class AsyncSignupServiceImplTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+
+    @Mock
+    private UserBatchService userBatchService;
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncSignupServiceImpl asyncSignupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AsyncSignupProperties properties = new AsyncSignupProperties(true, QUEUE_CAPACITY, 500,
+                Duration.ofMinutes(10), 1000, Duration.ofSeconds(1), Duration.ZERO);
+        asyncSignupService = new AsyncSignupServiceImpl(userBatchService, userAvailabilityService, properties,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(asyncSignupService, "shutdown");
+    }
+
+    private static UserRequestDTO request(String username) {
+        return UserRequestDTO.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password123")
+                .build();
+    }
+
+    private void writeQueued() {
+        ReflectionTestUtils.invokeMethod(asyncSignupService, "writeQueued");
+    }
+
+    @Test
+    @DisplayName("Queued signups are written in one batch and their jobs report the outcome per item")
+    void submit_ThenWrite_CompletesJobsFromBatchResults() {
+        // Given
+        UserResponseDTO alice = UserResponseDTO.builder().id(UUID.randomUUID()).username("alice").build();
+        given(userBatchService.createUsers(anyList())).willReturn(UserBatchResponseDTO.builder()
+                .created(1)
+                .duplicates(1)
+                .results(List.of(
+                        BatchItemResultDTO.builder().index(0).status(BatchItemStatus.CREATED).user(alice).build(),
+                        BatchItemResultDTO.builder().index(1).status(BatchItemStatus.DUPLICATE)
+                                .message("Email 'bob@example.com' already exists.").build()))
+                .build());
+
+        // When
+        SignupJobDTO first = asyncSignupService.submit(request("alice"));
+        SignupJobDTO second = asyncSignupService.submit(request("bob"));
+        assertThat(asyncSignupService.getJob(first.getJobId()).getStatus()).isEqualTo(SignupJobStatus.PENDING);
+        writeQueued();
+
+        // Then
+        then(userBatchService).should().createUsers(List.of(request("alice"), request("bob")));
+        SignupJobDTO created = asyncSignupService.getJob(first.getJobId());
+        assertThat(created.getStatus()).isEqualTo(SignupJobStatus.CREATED);
+        assertThat(created.getUser()).isEqualTo(alice);
+        assertThat(created.getCompletedAt()).isNotNull();
+        SignupJobDTO duplicate = asyncSignupService.getJob(second.getJobId());
+        assertThat(duplicate.getStatus()).isEqualTo(SignupJobStatus.DUPLICATE);
+        assertThat(duplicate.getMessage()).contains("already exists");
+        assertThat(meterRegistry.get("ums.signup.async.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A username that is taken or already queued is rejected at submit time, case-insensitively")
+    void submit_DuplicateUsername_ThrowsDuplicateResourceException() {
+        // Given
+        asyncSignupService.submit(request("alice"));
+        given(userAvailabilityService.isUsernameTaken("carol")).willReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> asyncSignupService.submit(request("ALICE")))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("Username 'ALICE' already exists.");
+        assertThatThrownBy(() -> asyncSignupService.submit(request("carol")))
+                .isInstanceOf(DuplicateResourceException.class);
+        assertThat(meterRegistry.get("ums.signup.async.queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Values are released once their batch is written, and after a rejected submit")
+    void pendingValues_AreReleased() {
+        // Given
+        given(userAvailabilityService.isEmailTaken("dave@example.com")).willReturn(true, false);
+        given(userBatchService.createUsers(anyList())).willReturn(UserBatchResponseDTO.builder()
+                .results(List.of(BatchItemResultDTO.builder().index(0).status(BatchItemStatus.CREATED).build()))
+                .build());
+
+        // When / Then
+        assertThatThrownBy(() -> asyncSignupService.submit(request("dave")))
+                .isInstanceOf(DuplicateResourceException.class);
+        asyncSignupService.submit(request("dave"));
+        writeQueued();
+        asyncSignupService.submit(request("dave")); // The database check decides from now on
+    }
+
+    @Test
+    @DisplayName("A full queue sheds the signup with ServiceOverloadedException")
+    void submit_QueueFull_ThrowsServiceOverloadedException() {
+        // Given
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            asyncSignupService.submit(request("user" + i));
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> asyncSignupService.submit(request("overflow")))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("ums.signup.async.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A batch rolled back by a concurrent insert is retried; any other failure ends the jobs as FAILED")
+    void write_RetriesConflictsAndReportsFailures() {
+        // Given
+        given(userBatchService.createUsers(anyList()))
+                .willThrow(new DuplicateResourceException("A user in the batch was created concurrently; retry the batch."))
+                .willReturn(UserBatchResponseDTO.builder()
+                        .results(List.of(BatchItemResultDTO.builder().index(0).status(BatchItemStatus.CREATED).build()))
+                        .build())
+                .willThrow(new IllegalStateException("database down"));
+
+        // When
+        SignupJobDTO retried = asyncSignupService.submit(request("erin"));
+        writeQueued();
+        SignupJobDTO failed = asyncSignupService.submit(request("frank"));
+        writeQueued();
+
+        // Then
+        then(userBatchService).should(times(3)).createUsers(anyList());
+        assertThat(asyncSignupService.getJob(retried.getJobId()).getStatus()).isEqualTo(SignupJobStatus.CREATED);
+        SignupJobDTO failure = asyncSignupService.getJob(failed.getJobId());
+        assertThat(failure.getStatus()).isEqualTo(SignupJobStatus.FAILED);
+        assertThat(failure.getMessage()).doesNotContain("database down");
+    }
+
+    @Test
+    @DisplayName("A batch that keeps conflicting is written one by one on the last attempt")
+    void write_PersistentConflict_FallsBackToSingleInserts() {
+        // Given: both batch attempts are rolled back, then "gina" conflicts on her own and "hank" is created
+        DuplicateResourceException conflict =
+                new DuplicateResourceException("A user in the batch was created concurrently; retry the batch.");
+        given(userBatchService.createUsers(anyList()))
+                .willThrow(conflict)
+                .willThrow(conflict)
+                .willThrow(conflict)
+                .willReturn(UserBatchResponseDTO.builder()
+                        .created(1)
+                        .results(List.of(BatchItemResultDTO.builder().index(0).status(BatchItemStatus.CREATED).build()))
+                        .build());
+        SignupJobDTO gina = asyncSignupService.submit(request("gina"));
+        SignupJobDTO hank = asyncSignupService.submit(request("hank"));
+
+        // When
+        writeQueued();
+
+        // Then
+        then(userBatchService).should(times(2)).createUsers(argThat(requests -> requests.size() == 2));
+        then(userBatchService).should(times(2)).createUsers(argThat(requests -> requests.size() == 1));
+        assertThat(asyncSignupService.getJob(gina.getJobId()).getStatus()).isEqualTo(SignupJobStatus.DUPLICATE);
+        assertThat(asyncSignupService.getJob(hank.getJobId()).getStatus()).isEqualTo(SignupJobStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("Unknown job ids are reported as ResourceNotFoundException")
+    void getJob_Unknown_ThrowsResourceNotFoundException() {
+        assertThatThrownBy(() -> asyncSignupService.getJob(UUID.randomUUID()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
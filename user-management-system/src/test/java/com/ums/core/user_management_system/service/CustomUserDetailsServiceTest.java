@@ -0,0 +1,137 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.config.AuthCacheProperties;
+import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the UserDetails cache in CustomUserDetailsService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomUserDetailsService Tests")
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        AuthCacheProperties properties = new AuthCacheProperties(
+                new AuthCacheProperties.UserDetailsCache(100, Duration.ofMinutes(1)),
+                new AuthCacheProperties.CredentialsCache(false, 100, Duration.ofSeconds(30)));
+        userDetailsService = new CustomUserDetailsService(userRepository, properties, new SimpleMeterRegistry());
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("Alice");
+        user.setPassword("hashed");
+        user.setActive(true);
+        user.setRoles(Set.of(Role.USER));
+    }
+
+    @Test
+    @DisplayName("Should hit the database once for repeated lookups, regardless of username case")
+    void loadUserByUsername_cachesAcrossCalls() {
+        // Given
+        when(userRepository.findByUsernameIgnoreCase(anyString())).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails first = userDetailsService.loadUserByUsername("alice");
+        UserDetails second = userDetailsService.loadUserByUsername("ALICE");
+
+        // Then
+        assertThat(first.getUsername()).isEqualTo("Alice");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(userRepository, times(1)).findByUsernameIgnoreCase(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return copies so erasing credentials does not corrupt the cache")
+    void loadUserByUsername_returnsIndependentCopies() {
+        // Given
+        when(userRepository.findByUsernameIgnoreCase("alice")).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails first = userDetailsService.loadUserByUsername("alice");
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername("alice");
+
+        // Then
+        assertThat(first.getPassword()).isNull();
+        assertThat(second.getPassword()).isEqualTo("hashed");
+    }
+
+    @Test
+    @DisplayName("Should reload the user after a UserChangedEvent")
+    void onUserChanged_evictsCachedUser() {
+        // Given
+        when(userRepository.findByUsernameIgnoreCase("alice")).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("alice");
+        user.setActive(false);
+
+        // When
+        userDetailsService.onUserChanged(new UserChangedEvent(user.getId(), "Alice"));
+        UserDetails reloaded = userDetailsService.loadUserByUsername("alice");
+
+        // Then
+        assertThat(reloaded.isEnabled()).isFalse();
+        verify(userRepository, times(2)).findByUsernameIgnoreCase("alice");
+    }
+
+    @Test
+    @DisplayName("Should reload users after an AllUsersChangedEvent")
+    void onAllUsersChanged_evictsAllUsers() {
+        // Given
+        when(userRepository.findByUsernameIgnoreCase("alice")).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("alice");
+
+        // When
+        userDetailsService.onAllUsersChanged(new AllUsersChangedEvent());
+        userDetailsService.loadUserByUsername("alice");
+
+        // Then
+        verify(userRepository, times(2)).findByUsernameIgnoreCase("alice");
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown usernames")
+    void loadUserByUsername_doesNotCacheMisses() {
+        // Given
+        when(userRepository.findByUsernameIgnoreCase("bob")).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("bob"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("bob"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(2)).findByUsernameIgnoreCase("bob");
+    }
+}
@@ -0,0 +1,93 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.config.PasswordHashingProperties;
+import com.ums.core.user_management_system.exception.ServiceOverloadedException;
+import com.ums.core.user_management_system.service.impl.PasswordHashingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for PasswordHashingServiceImpl using a real single-threaded executor
+ * and an encoder that can be held to simulate a saturated pool.
+ */
+@DisplayName("PasswordHashingServiceImpl Tests")
+class PasswordHashingServiceImplTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (rawPassword.toString().startsWith("block")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    };
+
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingServiceImpl(blockingEncoder, executor,
+                new PasswordHashingProperties(1, 1, Duration.ofSeconds(2)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should hash on the executor and record the hash duration")
+    void whenHash_thenReturnsEncodedPasswordAndRecordsTimer() {
+        assertThat(passwordHashingService.hash("secret")).isEqualTo("hashed:secret");
+        assertThat(passwordHashingService.hashAll(List.of("a", "b"))).containsExactly("hashed:a", "hashed:b");
+
+        assertThat(meterRegistry.get("ums.password.hash.duration").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject fast with ServiceOverloadedException when the queue is full")
+    void givenSaturatedExecutor_whenHash_thenThrowsServiceOverloadedException() {
+        // Occupy the single worker, then the single queue slot
+        CompletableFuture.runAsync(() -> passwordHashingService.hash("block-1"));
+        await().until(() -> executor.getActiveCount() == 1);
+        CompletableFuture.runAsync(() -> passwordHashingService.hash("queued"));
+        await().until(() -> executor.getQueue().size() == 1);
+        assertThat(meterRegistry.get("ums.password.hash.queue.size").gauge().value()).isEqualTo(1.0);
+
+        assertThatThrownBy(() -> passwordHashingService.hash("rejected"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("ums.password.hash.rejected").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.security.UserPrincipal;
+import com.ums.core.user_management_system.service.impl.PasswordUpgradeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for PasswordUpgradeServiceImpl with a manually drained executor.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordUpgradeServiceImpl Tests")
+class PasswordUpgradeServiceImplTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserPrincipal user = new UserPrincipal(UUID.randomUUID(), "alice", "$2a$10$old", true, List.of());
+
+    private PasswordUpgradeService service(Executor executor) {
+        return new PasswordUpgradeServiceImpl(passwordEncoder, executor, userRepository, eventPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should store the new hash conditionally and evict the cached user")
+    void upgradeInBackground_storesNewHash() {
+        // Given
+        given(passwordEncoder.encode("secret")).willReturn("{bcrypt}$2a$12$new");
+        given(userRepository.updatePasswordIfUnchanged(user.getId(), "$2a$10$old", "{bcrypt}$2a$12$new")).willReturn(1);
+        PasswordUpgradeService service = service(queued::add);
+
+        // When
+        service.upgradeInBackground(user, "secret");
+
+        // Then: nothing happens on the caller's thread
+        verifyNoInteractions(passwordEncoder, userRepository);
+        queued.forEach(Runnable::run);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user.getId(), "alice"));
+        assertThat(meterRegistry.get("ums.password.rehash").tag("outcome", "upgraded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should schedule only one upgrade per user at a time")
+    void upgradeInBackground_deduplicatesInFlight() {
+        PasswordUpgradeService service = service(queued::add);
+
+        service.upgradeInBackground(user, "secret");
+        service.upgradeInBackground(user, "secret");
+
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not publish an event when the hash changed in the meantime")
+    void upgradeInBackground_lostRace() {
+        // Given
+        given(passwordEncoder.encode("secret")).willReturn("{bcrypt}$2a$12$new");
+        given(userRepository.updatePasswordIfUnchanged(any(), any(), any())).willReturn(0);
+
+        // When
+        service(Runnable::run).upgradeInBackground(user, "secret");
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the upgrade when the hashing executor is saturated, and allow a later retry")
+    void upgradeInBackground_executorSaturated() {
+        boolean[] saturated = {true};
+        PasswordUpgradeService service = service(task -> {
+            if (saturated[0]) {
+                throw new RejectedExecutionException("full");
+            }
+            queued.add(task);
+        });
+
+        service.upgradeInBackground(user, "secret");
+        saturated[0] = false;
+        service.upgradeInBackground(user, "secret");
+
+        assertThat(queued).hasSize(1);
+        assertThat(meterRegistry.get("ums.password.rehash").tag("outcome", "skipped").counter().count()).isEqualTo(1);
+        verifyNoInteractions(passwordEncoder, userRepository);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.exception.ResourceNotFoundException;
+import com.ums.core.user_management_system.repository.ReactiveUserRepository;
+import com.ums.core.user_management_system.service.impl.ReactiveUserServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * Unit tests for ReactiveUserServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveUserServiceImpl Tests")
+class ReactiveUserServiceImplTest {
+
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @InjectMocks
+    private ReactiveUserServiceImpl reactiveUserService;
+
+    private static UserResponseDTO user(String username) {
+        return UserResponseDTO.builder().id(UUID.randomUUID()).username(username).build();
+    }
+
+    @Test
+    @DisplayName("streamUsers without a limit streams the whole directory")
+    void streamUsers_WithoutLimit_StreamsAll() {
+        // Given
+        given(reactiveUserRepository.findAll()).willReturn(Flux.just(user("alice"), user("bob")));
+
+        // When / Then
+        assertThat(reactiveUserService.streamUsers(null).collectList().block()).hasSize(2);
+        then(reactiveUserRepository).should().findAll();
+    }
+
+    @Test
+    @DisplayName("streamUsers with a non-positive limit does not query")
+    void streamUsers_NonPositiveLimit_IsEmpty() {
+        assertThat(reactiveUserService.streamUsers(0).collectList().block()).isEmpty();
+        then(reactiveUserRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("listUsers clamps the limit to the supported range")
+    void listUsers_ClampsLimit() {
+        // Given
+        given(reactiveUserRepository.findFirst(anyInt())).willReturn(Flux.empty());
+
+        // When
+        reactiveUserService.listUsers(1_000_000).collectList().block();
+        reactiveUserService.listUsers(0).collectList().block();
+
+        // Then
+        then(reactiveUserRepository).should().findFirst(500);
+        then(reactiveUserRepository).should().findFirst(1);
+    }
+
+    @Test
+    @DisplayName("getUserById signals ResourceNotFoundException for an unknown user")
+    void getUserById_Unknown_SignalsNotFound() {
+        // Given
+        UUID id = UUID.randomUUID();
+        given(reactiveUserRepository.findById(id)).willReturn(Mono.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> reactiveUserService.getUserById(id).block())
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(id.toString());
+    }
+
+    @Test
+    @DisplayName("searchByUsername lower-cases the prefix, escapes LIKE wildcards and clamps the limit")
+    void searchByUsername_BuildsEscapedPattern() {
+        // Given
+        given(reactiveUserRepository.findByUsernameLike(anyString(), anyInt())).willReturn(Flux.empty());
+
+        // When
+        reactiveUserService.searchByUsername(" Jo_Hn% ", 500).blockLast();
+        reactiveUserService.searchByUsername("a\\b", 0).blockLast();
+
+        // Then
+        then(reactiveUserRepository).should().findByUsernameLike("jo\\_hn\\%%", 50);
+        then(reactiveUserRepository).should().findByUsernameLike("a\\\\b%", 1);
+    }
+
+    @Test
+    @DisplayName("searchByUsername with a blank prefix matches nothing without querying")
+    void searchByUsername_BlankPrefix_IsEmpty() {
+        assertThat(reactiveUserService.searchByUsername("  ", 10).collectList().block()).isEmpty();
+        then(reactiveUserRepository).shouldHaveNoInteractions();
+    }
+}
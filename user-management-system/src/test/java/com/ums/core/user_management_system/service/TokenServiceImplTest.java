@@ -0,0 +1,164 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.config.TokenConfig;
+import com.ums.core.user_management_system.config.TokenProperties;
+import com.ums.core.user_management_system.dto.TokenResponseDTO;
+import com.ums.core.user_management_system.exception.InvalidCredentialsException;
+import com.ums.core.user_management_system.security.TokenSigningKeys;
+import com.ums.core.user_management_system.security.UserPrincipal;
+import com.ums.core.user_management_system.service.impl.TokenServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Unit tests for TokenServiceImpl, issuing tokens with real RSA keys and verifying them
+ * with the decoder from TokenConfig, including key rotation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenServiceImpl Tests")
+class TokenServiceImplTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @TempDir
+    Path keyDir;
+
+    private final TokenConfig tokenConfig = new TokenConfig();
+    private final UUID userId = UUID.randomUUID();
+
+    private void givenAuthenticated() {
+        UserPrincipal principal = new UserPrincipal(userId, "alice", "hashed", true,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        given(authenticationManager.authenticate(any()))
+                .willReturn(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Should issue a token carrying id, username and roles that the decoder accepts")
+    void issueToken_roundTrip() {
+        // Given
+        givenAuthenticated();
+        TokenProperties properties = properties(null, List.of());
+        TokenSigningKeys keys = TokenSigningKeys.ephemeral();
+        TokenService tokenService = tokenService(keys, properties);
+
+        // When
+        TokenResponseDTO response = tokenService.issueToken("alice", "secret");
+        Jwt jwt = tokenConfig.jwtDecoder(keys, properties).decode(response.getAccessToken());
+
+        // Then
+        assertThat(response.getTokenType()).isEqualTo("Bearer");
+        assertThat(response.getExpiresIn()).isEqualTo(900);
+        assertThat(jwt.getSubject()).isEqualTo(userId.toString());
+        assertThat(jwt.getClaimAsString(TokenConfig.USERNAME_CLAIM)).isEqualTo("alice");
+        assertThat(jwt.getClaimAsStringList(TokenConfig.ROLES_CLAIM)).containsExactlyInAnyOrder("USER", "ADMIN");
+    }
+
+    @Test
+    @DisplayName("Should map failed authentication to InvalidCredentialsException")
+    void issueToken_badCredentials() {
+        // Given
+        given(authenticationManager.authenticate(any())).willThrow(new BadCredentialsException("Bad credentials"));
+        TokenService tokenService = tokenService(TokenSigningKeys.ephemeral(), properties(null, List.of()));
+
+        // When / Then
+        assertThatThrownBy(() -> tokenService.issueToken("alice", "wrong"))
+                .isInstanceOf(InvalidCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep accepting tokens of a retired key until it is removed from the configuration")
+    void rotation_acceptsRetiredKeyWhileListed() throws Exception {
+        // Given: tokens signed with key "old"
+        givenAuthenticated();
+        writeKeyPair("old");
+        writeKeyPair("new");
+        TokenProperties before = properties("old", List.of(privateKey("old")));
+        String oldToken = tokenService(TokenSigningKeys.load(before), before).issueToken("alice", "secret").getAccessToken();
+
+        // When: "new" becomes active and "old" stays listed with its public key only
+        TokenProperties rotated = properties("new", List.of(privateKey("new"), publicKey("old")));
+        TokenSigningKeys rotatedKeys = TokenSigningKeys.load(rotated);
+        JwtDecoder rotatedDecoder = tokenConfig.jwtDecoder(rotatedKeys, rotated);
+        String newToken = tokenService(rotatedKeys, rotated).issueToken("alice", "secret").getAccessToken();
+
+        // Then
+        assertThat(rotatedDecoder.decode(oldToken).getSubject()).isEqualTo(userId.toString());
+        assertThat(rotatedDecoder.decode(newToken).getHeaders()).containsEntry("kid", "new");
+
+        // And once "old" is dropped its tokens are rejected
+        TokenProperties retired = properties("new", List.of(privateKey("new")));
+        JwtDecoder retiredDecoder = tokenConfig.jwtDecoder(TokenSigningKeys.load(retired), retired);
+        assertThatThrownBy(() -> retiredDecoder.decode(oldToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should refuse an active key without a private key")
+    void load_activeKeyWithoutPrivateKey() throws Exception {
+        writeKeyPair("old");
+        TokenProperties properties = properties("old", List.of(publicKey("old")));
+
+        assertThatThrownBy(() -> TokenSigningKeys.load(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("old");
+    }
+
+    private TokenService tokenService(TokenSigningKeys keys, TokenProperties properties) {
+        return new TokenServiceImpl(authenticationManager, tokenConfig.jwtEncoder(keys), keys, properties);
+    }
+
+    private static TokenProperties properties(String activeKeyId, List<TokenProperties.SigningKey> keys) {
+        return new TokenProperties("test-issuer", Duration.ofMinutes(15), activeKeyId, keys);
+    }
+
+    private TokenProperties.SigningKey privateKey(String id) {
+        return new TokenProperties.SigningKey(id, new FileSystemResource(keyDir.resolve(id + ".pem")), null);
+    }
+
+    private TokenProperties.SigningKey publicKey(String id) {
+        return new TokenProperties.SigningKey(id, null, new FileSystemResource(keyDir.resolve(id + ".pub.pem")));
+    }
+
+    private void writeKeyPair(String id) throws NoSuchAlgorithmException, IOException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair pair = generator.generateKeyPair();
+        Files.writeString(keyDir.resolve(id + ".pem"), pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        Files.writeString(keyDir.resolve(id + ".pub.pem"), pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
@@ -0,0 +1,171 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.config.UserAvailabilityProperties;
+import com.ums.core.user_management_system.dto.UserAvailabilityDTO;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.service.impl.UserAvailabilityServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for UserAvailabilityServiceImpl.
+ * The package-private rebuild/refresh steps are invoked directly instead of through the background thread.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserAvailabilityServiceImpl Tests")
+class UserAvailabilityServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserExportRepository userExportRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserAvailabilityServiceImpl availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        availabilityService = new UserAvailabilityServiceImpl(userRepository, userExportRepository,
+                new UserAvailabilityProperties(0.01, 1000, Duration.ofHours(6)), transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(availabilityService, "shutdown");
+    }
+
+    private void givenBuiltFilters(String username, String email) {
+        willAnswer(invocation -> {
+            Consumer<UserSearchResultDTO> sink = invocation.getArgument(0);
+            sink.accept(new UserSearchResultDTO(UUID.randomUUID(), username, email));
+            return null;
+        }).given(userExportRepository).streamSearchKeys(any());
+        ReflectionTestUtils.invokeMethod(availabilityService, "rebuild");
+    }
+
+    private double lookups(String field, String outcome) {
+        return meterRegistry.get("ums.user.availability.lookups").tag("field", field).tag("outcome", outcome)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("Should ask the database while the filters are not built yet")
+    void givenNoFilters_whenIsUsernameTaken_thenQueriesDatabase() {
+        given(userRepository.existsByUsernameIgnoreCase("alice")).willReturn(false);
+
+        assertThat(availabilityService.isUsernameTaken("alice")).isFalse();
+        verify(userRepository).existsByUsernameIgnoreCase("alice");
+    }
+
+    @Test
+    @DisplayName("Should answer unknown values from the filters without a query")
+    void givenBuiltFilters_whenCheckingUnknownValues_thenSkipsDatabase() {
+        // Given
+        givenBuiltFilters("Alice", "alice@example.com");
+
+        // When
+        UserAvailabilityDTO result = availabilityService.checkAvailability("bob", "bob@example.com");
+
+        // Then
+        assertThat(result.getUsernameAvailable()).isTrue();
+        assertThat(result.getEmailAvailable()).isTrue();
+        verify(userRepository, never()).existsByUsernameIgnoreCase(anyString());
+        verify(userRepository, never()).existsByEmailIgnoreCase(anyString());
+        assertThat(lookups("username", "filtered")).isEqualTo(1.0);
+        assertThat(lookups("email", "filtered")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should confirm filter hits in the database, case-insensitively")
+    void givenBuiltFilters_whenCheckingKnownValue_thenConfirmsInDatabase() {
+        // Given
+        givenBuiltFilters("Alice", "alice@example.com");
+        given(userRepository.existsByUsernameIgnoreCase("ALICE")).willReturn(true);
+
+        // When
+        UserAvailabilityDTO result = availabilityService.checkAvailability("ALICE", null);
+
+        // Then
+        assertThat(result.getUsernameAvailable()).isFalse();
+        assertThat(result.getEmailAvailable()).isNull();
+        assertThat(lookups("username", "taken")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should count a filter hit that the database does not confirm as a false positive")
+    void givenRenamedUser_whenCheckingOldName_thenCountsFalsePositive() {
+        // Given: "alice" is still in the filter but no longer in the database
+        givenBuiltFilters("alice", "alice@example.com");
+        given(userRepository.existsByUsernameIgnoreCase("alice")).willReturn(false);
+
+        // When / Then
+        assertThat(availabilityService.isUsernameTaken("alice")).isFalse();
+        assertThat(lookups("username", "false_positive")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should add a changed user's values to the built filters")
+    void givenNewUser_whenRefresh_thenFiltersKnowIt() {
+        // Given
+        givenBuiltFilters("alice", "alice@example.com");
+        UUID carolId = UUID.randomUUID();
+        given(userRepository.findResponseById(carolId)).willReturn(Optional.of(
+                UserResponseDTO.builder().id(carolId).username("Carol").email("Carol@Example.com").build()));
+        given(userRepository.existsByUsernameIgnoreCase("carol")).willReturn(true);
+        given(userRepository.existsByEmailIgnoreCase("carol@example.com")).willReturn(true);
+
+        // When
+        ReflectionTestUtils.invokeMethod(availabilityService, "refresh", carolId);
+
+        // Then: both values now pass the filters and are confirmed in the database
+        assertThat(availabilityService.checkAvailability("carol", "carol@example.com"))
+                .extracting(UserAvailabilityDTO::getUsernameAvailable, UserAvailabilityDTO::getEmailAvailable)
+                .containsExactly(false, false);
+        assertThat(meterRegistry.get("ums.user.availability.filter.fpp").tag("field", "username").gauge().value())
+                .isGreaterThan(0.0);
+    }
+
+    @Test
+    @DisplayName("Should add created users' values as carried by the event, without reading them back")
+    void givenCreatedUsers_whenAdd_thenFiltersKnowThem() {
+        // Given
+        givenBuiltFilters("alice", "alice@example.com");
+        given(userRepository.existsByUsernameIgnoreCase("carol")).willReturn(true);
+
+        // When
+        ReflectionTestUtils.invokeMethod(availabilityService, "add",
+                List.of(new UserSearchResultDTO(UUID.randomUUID(), "Carol", "carol@example.com")));
+
+        // Then: the value passes the filter and is confirmed in the database
+        assertThat(availabilityService.isUsernameTaken("carol")).isTrue();
+        verify(userRepository, never()).findResponseById(any());
+    }
+}
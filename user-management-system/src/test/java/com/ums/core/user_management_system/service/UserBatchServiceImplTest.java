@@ -0,0 +1,193 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.BatchItemResultDTO;
+import com.ums.core.user_management_system.dto.BatchItemStatus;
+import com.ums.core.user_management_system.dto.UserBatchResponseDTO;
+import com.ums.core.user_management_system.dto.UserRequestDTO;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.entity.User;
+import com.ums.core.user_management_system.event.UsersCreatedEvent;
+import com.ums.core.user_management_system.exception.DuplicateResourceException;
+import com.ums.core.user_management_system.mapper.UserMapper;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.service.impl.UserBatchServiceImpl;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserBatchServiceImpl.
+ * Uses a real Bean Validation validator and Mockito for persistence collaborators.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBatchServiceImpl Tests")
+class UserBatchServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserMapper userMapper;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserBatchServiceImpl userBatchService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        userBatchService = new UserBatchServiceImpl(userRepository, userMapper, passwordHashingService,
+                validator, transactionTemplate, eventPublisher);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(userMapper.toUser(any(UserRequestDTO.class))).thenAnswer(invocation -> {
+            UserRequestDTO dto = invocation.getArgument(0);
+            return User.builder().username(dto.getUsername()).email(dto.getEmail()).build();
+        });
+        lenient().when(userMapper.toUserResponseDTO(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            return UserResponseDTO.builder().id(user.getId()).username(user.getUsername()).build();
+        });
+        lenient().when(passwordHashingService.hashAll(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(raw -> "hashed").toList());
+        lenient().when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> saved = new ArrayList<>();
+            for (User user : invocation.<List<User>>getArgument(0)) {
+                user.setId(UUID.randomUUID());
+                saved.add(user);
+            }
+            return saved;
+        });
+    }
+
+    private static UserRequestDTO request(String username, String email) {
+        return UserRequestDTO.builder()
+                .username(username)
+                .email(email)
+                .password("password123")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should report CREATED, DUPLICATE and INVALID per item in request order")
+    void givenMixedBatch_whenCreateUsers_thenReportsPerItemResults() {
+        // Arrange (Given): "taken" already exists in the database
+        given(userRepository.findConflictingUsernamesAndEmails(anyCollection(), anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{"taken", "taken@example.com"}));
+        List<UserRequestDTO> batch = List.of(
+                request("alice", "alice@example.com"),
+                request("Taken", "other@example.com"),
+                request("x", "not-an-email"),
+                request("ALICE", "alice2@example.com"),
+                request("bob", "bob@example.com"));
+
+        // Act (When)
+        UserBatchResponseDTO response = userBatchService.createUsers(batch);
+
+        // Assert (Then)
+        assertThat(response.getResults()).extracting(BatchItemResultDTO::getStatus).containsExactly(
+                BatchItemStatus.CREATED,
+                BatchItemStatus.DUPLICATE,
+                BatchItemStatus.INVALID,
+                BatchItemStatus.DUPLICATE,
+                BatchItemStatus.CREATED);
+        assertThat(response.getResults()).extracting(BatchItemResultDTO::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.getResults().get(4).getUser().getUsername()).isEqualTo("bob");
+        assertThat(response.getResults().get(2).getMessage()).contains("Email should be valid");
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        assertThat(response.getInvalid()).isEqualTo(1);
+
+        verify(userRepository, times(1)).findConflictingUsernamesAndEmails(anyCollection(), anyCollection());
+        verify(userRepository, times(1)).saveAll(argThat(users -> ((List<User>) users).size() == 2));
+        verify(passwordHashingService, times(1)).hashAll(List.of("password123", "password123"));
+        ArgumentCaptor<UsersCreatedEvent> created = ArgumentCaptor.forClass(UsersCreatedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(created.capture());
+        assertThat(created.getValue().users()).extracting(UserSearchResultDTO::getUsername)
+                .containsExactly("alice", "bob");
+    }
+
+    @Test
+    @DisplayName("Should check every candidate in the database, not only values the availability filters know")
+    void givenValidItems_whenCreateUsers_thenQueriesEveryCandidate() {
+        // Arrange (Given): "carol" was created on another node and is not in the local filters yet
+        given(userRepository.findConflictingUsernamesAndEmails(anyCollection(), anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{"carol", "carol@example.com"}));
+
+        // Act (When)
+        UserBatchResponseDTO response = userBatchService.createUsers(List.of(
+                request("Carol", "Carol@example.com"),
+                request("dave", "dave@example.com")));
+
+        // Assert (Then)
+        verify(userRepository).findConflictingUsernamesAndEmails(Set.of("carol", "dave"),
+                Set.of("carol@example.com", "dave@example.com"));
+        assertThat(response.getResults()).extracting(BatchItemResultDTO::getStatus)
+                .containsExactly(BatchItemStatus.DUPLICATE, BatchItemStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should not let an item rejected for its email block its username for later items")
+    void givenItemRejectedForEmail_whenLaterItemUsesItsUsername_thenLaterItemIsCreated() {
+        // Arrange (Given): the email of the first item is taken, its username is not
+        given(userRepository.findConflictingUsernamesAndEmails(anyCollection(), anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{"someone", "taken@example.com"}));
+
+        // Act (When)
+        UserBatchResponseDTO response = userBatchService.createUsers(List.of(
+                request("frank", "taken@example.com"),
+                request("Frank", "frank@example.com")));
+
+        // Assert (Then)
+        assertThat(response.getResults()).extracting(BatchItemResultDTO::getStatus)
+                .containsExactly(BatchItemStatus.DUPLICATE, BatchItemStatus.CREATED);
+        assertThat(response.getResults().get(0).getMessage()).startsWith("Email");
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when every item is invalid")
+    void givenOnlyInvalidItems_whenCreateUsers_thenSkipsDatabase() {
+        UserBatchResponseDTO response = userBatchService.createUsers(List.of(request("", "bad")));
+
+        assertThat(response.getInvalid()).isEqualTo(1);
+        verifyNoInteractions(userRepository, passwordHashingService, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should translate a concurrent uniqueness violation into DuplicateResourceException")
+    void givenConcurrentInsert_whenCreateUsers_thenThrowsDuplicateResourceException() {
+        given(userRepository.findConflictingUsernamesAndEmails(anyCollection(), anyCollection())).willReturn(List.of());
+        given(userRepository.saveAll(anyList())).willThrow(new DataIntegrityViolationException(
+                "ERROR: duplicate key value violates unique constraint \"uk_users_username_lower\""));
+
+        assertThatThrownBy(() -> userBatchService.createUsers(List.of(request("carol", "carol@example.com"))))
+                .isInstanceOf(DuplicateResourceException.class);
+    }
+}
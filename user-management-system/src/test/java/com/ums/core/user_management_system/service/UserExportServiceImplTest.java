@@ -0,0 +1,108 @@
+package com.ums.core.user_management_system.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ums.core.user_management_system.dto.ExportFormat;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import com.ums.core.user_management_system.service.impl.UserExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit tests for UserExportServiceImpl.
+ * The repository is mocked to push rows through the streaming callback.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExportServiceImpl Tests")
+class UserExportServiceImplTest {
+
+    @Mock
+    private UserExportRepository userExportRepository;
+
+    private UserExportServiceImpl userExportService;
+
+    private UserResponseDTO plainUser;
+    private UserResponseDTO trickyUser;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        userExportService = new UserExportServiceImpl(userExportRepository, objectMapper);
+
+        OffsetDateTime timestamp = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        plainUser = UserResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .username("plain")
+                .email("plain@example.com")
+                .firstName("Plain")
+                .active(true)
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+        trickyUser = UserResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .username("tricky")
+                .email("tricky@example.com")
+                .firstName("Doe, \"Jr\"")
+                .active(false)
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<UserResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(plainUser);
+            consumer.accept(trickyUser);
+            return null;
+        }).when(userExportRepository).streamAll(any());
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line for NDJSON")
+    void whenExportNdjson_thenWritesOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.exportUsers(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("username").asText()).isEqualTo("plain");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-02T03:04:05Z");
+        assertThat(first.has("password")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write a header and RFC 4180 escaped rows for CSV")
+    void whenExportCsv_thenWritesHeaderAndEscapedRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.exportUsers(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,username,email,firstName,lastName,phoneNumber,active,createdAt,updatedAt");
+        assertThat(lines[1]).isEqualTo(plainUser.getId() + ",plain,plain@example.com,Plain,,,true,2024-01-02T03:04:05Z,2024-01-02T03:04:05Z");
+        assertThat(lines[2]).contains(",\"Doe, \"\"Jr\"\"\",");
+    }
+}
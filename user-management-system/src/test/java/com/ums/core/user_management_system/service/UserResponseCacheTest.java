@@ -0,0 +1,110 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.config.UserCacheProperties;
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.event.AllUsersChangedEvent;
+import com.ums.core.user_management_system.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the by-ID user cache.
+ */
+@DisplayName("UserResponseCache Tests")
+class UserResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserResponseCache cache;
+    private UUID userId;
+    private AtomicInteger loads;
+    private Function<UUID, Optional<UserResponseDTO>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserResponseCache(new UserCacheProperties(100, Duration.ofMinutes(5)), meterRegistry);
+        userId = UUID.randomUUID();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(UserResponseDTO.builder().id(id).username("alice").build());
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once for repeated lookups and count hits and misses")
+    void get_cachesAcrossCalls() {
+        // When
+        Optional<UserResponseDTO> first = cache.get(userId, loader);
+        Optional<UserResponseDTO> second = cache.get(userId, loader);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserResponseCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserResponseCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown IDs")
+    void get_doesNotCacheMisses() {
+        // Given
+        Function<UUID, Optional<UserResponseDTO>> notFound = id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        // When
+        Optional<UserResponseDTO> first = cache.get(userId, notFound);
+        Optional<UserResponseDTO> afterCreate = cache.get(userId, loader);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(afterCreate).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should reload the user after a UserChangedEvent")
+    void onUserChanged_evictsCachedUser() {
+        // Given
+        cache.get(userId, loader);
+
+        // When
+        cache.onUserChanged(new UserChangedEvent(userId, "alice"));
+        cache.get(userId, loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should reload every user after an AllUsersChangedEvent")
+    void onAllUsersChanged_evictsEverything() {
+        // Given
+        UUID otherId = UUID.randomUUID();
+        cache.get(userId, loader);
+        cache.get(otherId, loader);
+
+        // When
+        cache.onAllUsersChanged(new AllUsersChangedEvent());
+        cache.get(userId, loader);
+        cache.get(otherId, loader);
+
+        // Then
+        assertThat(loads).hasValue(4);
+    }
+}
@@ -0,0 +1,176 @@
+package com.ums.core.user_management_system.service;
+
+import com.ums.core.user_management_system.dto.UserResponseDTO;
+import com.ums.core.user_management_system.dto.UserSearchResultDTO;
+import com.ums.core.user_management_system.exception.SearchIndexNotReadyException;
+import com.ums.core.user_management_system.repository.UserExportRepository;
+import com.ums.core.user_management_system.repository.UserRepository;
+import com.ums.core.user_management_system.service.impl.UserSearchServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for UserSearchServiceImpl.
+ * The package-private rebuild/refresh steps are invoked directly instead of through the background indexer.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchServiceImpl Tests")
+class UserSearchServiceImplTest {
+
+    @Mock
+    private UserExportRepository userExportRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserSearchServiceImpl userSearchService;
+    private UUID aliceId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userSearchService = new UserSearchServiceImpl(userExportRepository, userRepository, transactionManager,
+                meterRegistry);
+        aliceId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(userSearchService, "shutdown");
+    }
+
+    private void givenDirectory(UserSearchResultDTO... users) {
+        willAnswer(invocation -> {
+            Consumer<UserSearchResultDTO> sink = invocation.getArgument(0);
+            List.of(users).forEach(sink);
+            return null;
+        }).given(userExportRepository).streamSearchKeys(any());
+    }
+
+    private void rebuild() {
+        ReflectionTestUtils.invokeMethod(userSearchService, "rebuild");
+    }
+
+    private void refresh(UUID id) {
+        ReflectionTestUtils.invokeMethod(userSearchService, "refresh", id);
+    }
+
+    @Test
+    @DisplayName("Should reject searches until the index has been built")
+    void givenIndexNotBuilt_whenSearch_thenThrowsSearchIndexNotReadyException() {
+        assertThatThrownBy(() -> userSearchService.search("al", 10))
+                .isInstanceOf(SearchIndexNotReadyException.class);
+    }
+
+    @Test
+    @DisplayName("Should answer from the index built from the streamed directory")
+    void givenBuiltIndex_whenSearch_thenReturnsMatches() {
+        // Given
+        givenDirectory(new UserSearchResultDTO(aliceId, "alice", "alice@example.com"),
+                new UserSearchResultDTO(UUID.randomUUID(), "bob", "bob@example.com"));
+        rebuild();
+
+        // When
+        List<UserSearchResultDTO> matches = userSearchService.search(" Al ", 10);
+
+        // Then
+        assertThat(matches).extracting(UserSearchResultDTO::getId).containsExactly(aliceId);
+        assertThat(meterRegistry.get("ums.user.search.index.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for a blank prefix and clamp the limit")
+    void givenBlankPrefixOrHugeLimit_whenSearch_thenHandlesGracefully() {
+        // Given
+        UserSearchResultDTO[] users = new UserSearchResultDTO[60];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = new UserSearchResultDTO(UUID.randomUUID(), "user" + i, "user" + i + "@example.com");
+        }
+        givenDirectory(users);
+        rebuild();
+
+        // When / Then
+        assertThat(userSearchService.search("  ", 10)).isEmpty();
+        assertThat(userSearchService.search("user", 1000)).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous index when a rebuild fails")
+    void givenFailingRebuild_whenSearch_thenKeepsPreviousIndex() {
+        // Given
+        givenDirectory(new UserSearchResultDTO(aliceId, "alice", "alice@example.com"));
+        rebuild();
+        willThrow(new DataAccessResourceFailureException("connection lost"))
+                .given(userExportRepository).streamSearchKeys(any());
+
+        // When
+        rebuild();
+
+        // Then
+        assertThat(userSearchService.search("alice", 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should re-index a changed user and drop a user that no longer exists")
+    void givenUserChanges_whenRefresh_thenIndexFollows() {
+        // Given
+        givenDirectory(new UserSearchResultDTO(aliceId, "alice", "alice@example.com"));
+        rebuild();
+        UUID carolId = UUID.randomUUID();
+        given(userRepository.findResponseById(carolId)).willReturn(Optional.of(
+                UserResponseDTO.builder().id(carolId).username("carol").email("carol@example.com").build()));
+        given(userRepository.findResponseById(aliceId)).willReturn(Optional.empty());
+
+        // When
+        refresh(carolId);
+        refresh(aliceId);
+
+        // Then
+        assertThat(userSearchService.search("carol", 10)).extracting(UserSearchResultDTO::getId).containsExactly(carolId);
+        assertThat(userSearchService.search("alice", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should index created users as carried by the event, without reading them back")
+    void givenCreatedUsers_whenAdd_thenIndexedWithoutQueries() {
+        // Given
+        givenDirectory(new UserSearchResultDTO(aliceId, "alice", "alice@example.com"));
+        rebuild();
+        UUID carolId = UUID.randomUUID();
+        UUID daveId = UUID.randomUUID();
+
+        // When
+        ReflectionTestUtils.invokeMethod(userSearchService, "add", List.of(
+                new UserSearchResultDTO(carolId, "carol", "carol@example.com"),
+                new UserSearchResultDTO(daveId, "dave", "dave@example.com")));
+
+        // Then
+        assertThat(userSearchService.search("carol", 10)).extracting(UserSearchResultDTO::getId).containsExactly(carolId);
+        assertThat(userSearchService.search("dave", 10)).extracting(UserSearchResultDTO::getId).containsExactly(daveId);
+        verifyNoInteractions(userRepository);
+    }
+}
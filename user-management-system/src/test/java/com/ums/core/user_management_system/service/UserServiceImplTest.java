@@ -1,11 +1,15 @@
 package com.ums.core.user_management_system.service;
 
+import com.ums.core.user_management_system.dto.CursorPageResponseDTO;
 import com.ums.core.user_management_system.dto.UserRequestDTO;
 import com.ums.core.user_management_system.dto.UserResponseDTO;
 import com.ums.core.user_management_system.entity.User;
 import com.ums.core.user_management_system.entity.Role;
+import com.ums.core.user_management_system.event.UserChangedEvent;
 import com.ums.core.user_management_system.exception.DuplicateResourceException;
+import com.ums.core.user_management_system.exception.InvalidCursorException;
 import com.ums.core.user_management_system.mapper.UserMapper;
+import com.ums.core.user_management_system.pagination.UserCursor;
 import com.ums.core.user_management_system.repository.UserRepository;
 import com.ums.core.user_management_system.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,13 +22,19 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,7 +56,13 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private UserResponseCache userResponseCache;
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private UserServiceImpl userService; // Test the implementation
@@ -123,12 +139,10 @@ class UserServiceImplTest {
         @DisplayName("Should create user successfully when username and email are unique")
         void givenValidUserRequest_whenCreateUser_thenReturnsUserResponseDTO() {
             // Arrange (Given)
-            given(userRepository.existsByUsernameIgnoreCase(testUsername)).willReturn(false);
-            given(userRepository.existsByEmailIgnoreCase(testEmail)).willReturn(false);
             given(userMapper.toUser(userRequestDTO)).willReturn(userEntityFromMapper);
-            given(passwordEncoder.encode(rawPassword)).willReturn(hashedPassword);
-            // Use argument captor for the save method
-            given(userRepository.save(userArgumentCaptor.capture())).willReturn(savedUserEntity);
+            given(passwordHashingService.hash(rawPassword)).willReturn(hashedPassword);
+            // Use argument captor for the saveAndFlush method
+            given(userRepository.saveAndFlush(userArgumentCaptor.capture())).willReturn(savedUserEntity);
             given(userMapper.toUserResponseDTO(savedUserEntity)).willReturn(userResponseDTO);
 
             // Act (When)
@@ -139,59 +153,87 @@ class UserServiceImplTest {
             assertThat(result.getId()).isEqualTo(userId);
             assertThat(result.getUsername()).isEqualTo(testUsername);
 
-            // Verify the captured user entity that was passed to save()
+            // Verify the captured user entity that was passed to saveAndFlush()
             User capturedUser = userArgumentCaptor.getValue();
             assertThat(capturedUser).isNotNull();
             // IMPORTANT: Check that the 'password' field contains the HASHED password
             assertThat(capturedUser.getPassword()).isEqualTo(hashedPassword);
             assertThat(capturedUser.getUsername()).isEqualTo(testUsername);
-            // Add other relevant assertions for the captured entity if needed
 
-            // Verify mock interactions
-            verify(userRepository).existsByUsernameIgnoreCase(testUsername);
-            verify(userRepository).existsByEmailIgnoreCase(testEmail);
+            // Verify mock interactions: a single insert, no pre-check queries
             verify(userMapper).toUser(userRequestDTO);
-            verify(passwordEncoder).encode(rawPassword);
-            verify(userRepository).save(any(User.class)); // Verify save was called
+            verify(passwordHashingService).hash(rawPassword);
+            verify(userRepository).saveAndFlush(any(User.class));
             verify(userMapper).toUserResponseDTO(savedUserEntity);
-            verifyNoMoreInteractions(userRepository, userMapper, passwordEncoder);
+            verify(eventPublisher).publishEvent(new UserChangedEvent(userId, testUsername));
+            verifyNoMoreInteractions(userRepository, userMapper, passwordHashingService);
+        }
+
+        @Test
+        @DisplayName("Should reject a taken username before hashing the password")
+        void givenTakenUsername_whenCreateUser_thenThrowsWithoutHashing() {
+            // Arrange (Given): the availability check confirms the username exists
+            given(userAvailabilityService.isUsernameTaken(testUsername)).willReturn(true);
+
+            // Act & Assert (When & Then)
+            assertThatThrownBy(() -> userService.createUser(userRequestDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessageContaining("Username '" + testUsername + "' already exists.");
+
+            verifyNoInteractions(passwordHashingService, userRepository, eventPublisher);
         }
 
         @Test
-        @DisplayName("Should throw DuplicateResourceException when username already exists")
+        @DisplayName("Should throw DuplicateResourceException when the username unique index is violated")
         void givenExistingUsername_whenCreateUser_thenThrowsDuplicateResourceException() {
-            // Arrange (Given)
-            given(userRepository.existsByUsernameIgnoreCase(testUsername)).willReturn(true);
+            // Arrange (Given): the insert collides on the case-insensitive username index
+            given(userMapper.toUser(userRequestDTO)).willReturn(userEntityFromMapper);
+            given(passwordHashingService.hash(rawPassword)).willReturn(hashedPassword);
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(uniqueViolation("uk_users_username_lower"));
 
             // Act & Assert (When & Then)
             assertThatThrownBy(() -> userService.createUser(userRequestDTO))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessageContaining("Username '" + testUsername + "' already exists.");
 
-            // Verify interactions
-            verify(userRepository).existsByUsernameIgnoreCase(testUsername);
-            verify(userRepository, never()).existsByEmailIgnoreCase(anyString());
-            verifyNoInteractions(userMapper, passwordEncoder);
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).existsByUsernameIgnoreCase(anyString());
+            verify(userMapper, never()).toUserResponseDTO(any(User.class));
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
-        @DisplayName("Should throw DuplicateResourceException when email already exists")
+        @DisplayName("Should throw DuplicateResourceException when the email unique constraint is violated")
         void givenExistingEmail_whenCreateUser_thenThrowsDuplicateResourceException() {
-            // Arrange (Given)
-            given(userRepository.existsByUsernameIgnoreCase(testUsername)).willReturn(false);
-            given(userRepository.existsByEmailIgnoreCase(testEmail)).willReturn(true);
+            // Arrange (Given): the insert collides on the email constraint created by the V1 migration
+            given(userMapper.toUser(userRequestDTO)).willReturn(userEntityFromMapper);
+            given(passwordHashingService.hash(rawPassword)).willReturn(hashedPassword);
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(uniqueViolation("app_users_email_key"));
 
             // Act & Assert (When & Then)
             assertThatThrownBy(() -> userService.createUser(userRequestDTO))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessageContaining("Email '" + testEmail + "' already exists.");
 
-            // Verify interactions
-            verify(userRepository).existsByUsernameIgnoreCase(testUsername);
-            verify(userRepository).existsByEmailIgnoreCase(testEmail);
-            verifyNoInteractions(userMapper, passwordEncoder);
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).existsByEmailIgnoreCase(anyString());
+        }
+
+        @Test
+        @DisplayName("Should rethrow integrity violations unrelated to username or email")
+        void givenOtherConstraintViolation_whenCreateUser_thenRethrows() {
+            given(userMapper.toUser(userRequestDTO)).willReturn(userEntityFromMapper);
+            given(passwordHashingService.hash(rawPassword)).willReturn(hashedPassword);
+            DataIntegrityViolationException violation = uniqueViolation("app_users_pkey");
+            given(userRepository.saveAndFlush(any(User.class))).willThrow(violation);
+
+            assertThatThrownBy(() -> userService.createUser(userRequestDTO)).isSameAs(violation);
+        }
+
+        private DataIntegrityViolationException uniqueViolation(String constraintName) {
+            return new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("duplicate key value violates unique constraint",
+                            new SQLException("duplicate key", "23505"), constraintName));
         }
     }
 
@@ -201,18 +243,14 @@ class UserServiceImplTest {
     class GetAllUsersTests {
 
         @Test
-        @DisplayName("Should return list of users when users exist")
+        @DisplayName("Should return the projected DTOs without loading entities or using the mapper")
         void whenGetAllUsers_andUsersExist_thenReturnsUserResponseDTOList() {
             // Arrange (Given)
-            User user1 = User.builder().id(UUID.randomUUID()).username("user1").password("hash1").build();
-            User user2 = User.builder().id(UUID.randomUUID()).username("user2").password("hash2").build();
-            List<User> userList = List.of(user1, user2);
-            UserResponseDTO dto1 = UserResponseDTO.builder().id(user1.getId()).username("user1").build();
-            UserResponseDTO dto2 = UserResponseDTO.builder().id(user2.getId()).username("user2").build();
+            UserResponseDTO dto1 = UserResponseDTO.builder().id(UUID.randomUUID()).username("user1").build();
+            UserResponseDTO dto2 = UserResponseDTO.builder().id(UUID.randomUUID()).username("user2").build();
             List<UserResponseDTO> dtoList = List.of(dto1, dto2);
 
-            given(userRepository.findAll()).willReturn(userList);
-            given(userMapper.toUserResponseDTOList(userList)).willReturn(dtoList);
+            given(userRepository.findAllResponses()).willReturn(dtoList);
 
             // Act (When)
             List<UserResponseDTO> result = userService.getAllUsers();
@@ -223,18 +261,16 @@ class UserServiceImplTest {
                     .hasSize(2)
                     .containsExactlyInAnyOrder(dto1, dto2);
 
-            verify(userRepository).findAll();
-            verify(userMapper).toUserResponseDTOList(userList);
-            verifyNoMoreInteractions(userRepository, userMapper);
-            verifyNoInteractions(passwordEncoder);
+            verify(userRepository).findAllResponses();
+            verifyNoMoreInteractions(userRepository);
+            verifyNoInteractions(userMapper, passwordHashingService);
         }
 
         @Test
         @DisplayName("Should return empty list when no users exist")
         void whenGetAllUsers_andNoUsersExist_thenReturnsEmptyList() {
             // Arrange (Given)
-            given(userRepository.findAll()).willReturn(Collections.emptyList());
-            given(userMapper.toUserResponseDTOList(Collections.emptyList())).willReturn(Collections.emptyList());
+            given(userRepository.findAllResponses()).willReturn(Collections.emptyList());
 
             // Act (When)
             List<UserResponseDTO> result = userService.getAllUsers();
@@ -242,10 +278,162 @@ class UserServiceImplTest {
             // Assert (Then)
             assertThat(result).isNotNull().isEmpty();
 
-            verify(userRepository).findAll();
-            verify(userMapper).toUserResponseDTOList(Collections.emptyList());
-            verifyNoMoreInteractions(userRepository, userMapper);
-            verifyNoInteractions(passwordEncoder);
+            verify(userRepository).findAllResponses();
+            verifyNoMoreInteractions(userRepository);
+            verifyNoInteractions(userMapper, passwordHashingService);
+        }
+    }
+
+    // --- Nested class for getUsersPage tests ---
+    @Nested
+    @DisplayName("getUsersPage Tests")
+    class GetUsersPageTests {
+
+        private UserResponseDTO userCreatedAt(int minutesAgo) {
+            return UserResponseDTO.builder()
+                    .id(UUID.randomUUID())
+                    .username("user" + minutesAgo)
+                    .createdAt(OffsetDateTime.now().minusMinutes(minutesAgo))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should return first page and a cursor pointing at its last row when more rows exist")
+        void givenNoCursor_andMoreRows_whenGetUsersPage_thenReturnsNextCursor() {
+            // Arrange (Given): 3 rows returned for a page size of 2 (limit + 1 look-ahead)
+            List<UserResponseDTO> rows = List.of(userCreatedAt(3), userCreatedAt(2), userCreatedAt(1));
+            given(userRepository.findResponsePage(Limit.of(3))).willReturn(rows);
+
+            // Act (When)
+            CursorPageResponseDTO<UserResponseDTO> page = userService.getUsersPage(null, 2, null);
+
+            // Assert (Then)
+            assertThat(page.getItems()).containsExactlyElementsOf(rows.subList(0, 2));
+            assertThat(page.getLimit()).isEqualTo(2);
+            UserCursor next = UserCursor.decode(page.getNextCursor());
+            assertThat(next.id()).isEqualTo(rows.get(1).getId());
+            assertThat(next.createdAt().toInstant()).isEqualTo(rows.get(1).getCreatedAt().toInstant());
+            verifyNoInteractions(userMapper);
+        }
+
+        @Test
+        @DisplayName("Should seek after the cursor and omit nextCursor on the last page")
+        void givenCursor_andLastPage_whenGetUsersPage_thenSeeksAndHasNoNextCursor() {
+            // Arrange (Given)
+            UserResponseDTO last = userCreatedAt(5);
+            String cursor = new UserCursor(last.getCreatedAt(), last.getId()).encode();
+            List<UserResponseDTO> rows = List.of(userResponseDTO);
+            given(userRepository.findResponsePageAfter(any(OffsetDateTime.class), eq(last.getId()), eq(Limit.of(11)))).willReturn(rows);
+
+            // Act (When)
+            CursorPageResponseDTO<UserResponseDTO> page = userService.getUsersPage(cursor, 10, null);
+
+            // Assert (Then)
+            assertThat(page.getItems()).containsExactly(userResponseDTO);
+            assertThat(page.getNextCursor()).isNull();
+            verify(userRepository, never()).findResponsePage(any());
+        }
+
+        @Test
+        @DisplayName("Should filter by the requested role")
+        void givenRole_whenGetUsersPage_thenQueriesByRole() {
+            // Arrange (Given)
+            List<UserResponseDTO> rows = List.of(userResponseDTO);
+            given(userRepository.findResponsePageByRole(Role.ADMIN, Limit.of(11))).willReturn(rows);
+
+            // Act (When)
+            CursorPageResponseDTO<UserResponseDTO> page = userService.getUsersPage(null, 10, Role.ADMIN);
+
+            // Assert (Then)
+            assertThat(page.getItems()).containsExactly(userResponseDTO);
+            verify(userRepository, never()).findResponsePage(any());
+        }
+
+        @Test
+        @DisplayName("Should clamp the page size to the supported maximum")
+        void givenHugeLimit_whenGetUsersPage_thenClampsLimit() {
+            given(userRepository.findResponsePage(any())).willReturn(Collections.emptyList());
+
+            CursorPageResponseDTO<UserResponseDTO> page = userService.getUsersPage(null, 1_000_000, null);
+
+            assertThat(page.getLimit()).isEqualTo(500);
+            verify(userRepository).findResponsePage(Limit.of(501));
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidCursorException for a malformed cursor")
+        void givenMalformedCursor_whenGetUsersPage_thenThrowsInvalidCursorException() {
+            assertThatThrownBy(() -> userService.getUsersPage("not-a-cursor", 10, null))
+                    .isInstanceOf(InvalidCursorException.class);
+
+            verifyNoInteractions(userRepository, userMapper);
+        }
+    }
+
+    // --- Nested class for getUserById tests ---
+    @Nested
+    @DisplayName("getUserById Tests")
+    class GetUserByIdTests {
+
+        @BeforeEach
+        void cacheMissesAlways() {
+            given(userResponseCache.get(any(), any())).willAnswer(invocation -> {
+                Function<UUID, Optional<UserResponseDTO>> loader = invocation.getArgument(1);
+                return loader.apply(invocation.getArgument(0));
+            });
+        }
+
+        @Test
+        @DisplayName("Should load the projected DTO through the cache on a miss")
+        void givenExistingId_whenGetUserById_thenReturnsUser() {
+            // Arrange (Given)
+            given(userRepository.findResponseById(userId)).willReturn(Optional.of(userResponseDTO));
+
+            // Act (When)
+            Optional<UserResponseDTO> result = userService.getUserById(userId);
+
+            // Assert (Then)
+            assertThat(result).contains(userResponseDTO);
+            verify(userResponseCache).get(eq(userId), any());
+            verifyNoInteractions(userMapper);
+        }
+
+        @Test
+        @DisplayName("Should return empty for an unknown ID")
+        void givenUnknownId_whenGetUserById_thenReturnsEmpty() {
+            given(userRepository.findResponseById(userId)).willReturn(Optional.empty());
+
+            assertThat(userService.getUserById(userId)).isEmpty();
+        }
+    }
+
+    // --- Nested class for getUsersVersion tests ---
+    @Nested
+    @DisplayName("getUsersVersion Tests")
+    class GetUsersVersionTests {
+
+        @Test
+        @DisplayName("Should derive the version from the directory counter and change when it moves")
+        void givenDirectoryVersion_whenGetUsersVersion_thenVersionFollowsIt() {
+            // Given
+            given(userRepository.findDirectoryVersion()).willReturn(41L).willReturn(41L).willReturn(42L);
+
+            // When
+            String first = userService.getUsersVersion();
+            String same = userService.getUsersVersion();
+            String changed = userService.getUsersVersion();
+
+            // Then
+            assertThat(first).isEqualTo(same).isNotEqualTo(changed);
+            verifyNoInteractions(userMapper);
+        }
+
+        @Test
+        @DisplayName("Should return a fixed version before the first write")
+        void givenNoWrites_whenGetUsersVersion_thenReturnsZero() {
+            given(userRepository.findDirectoryVersion()).willReturn(0L);
+
+            assertThat(userService.getUsersVersion()).isEqualTo("0");
         }
     }
 }
@@ -0,0 +1,102 @@
+package com.ums.core.user_management_system.threading;
+
+import com.ums.core.user_management_system.config.PinningMonitorProperties;
+import com.ums.core.user_management_system.dto.PinningSiteDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for VirtualThreadPinningMonitor: site grouping and classification, and one end-to-end
+ * check that a real pinning event is picked up from the Flight Recorder stream.
+ */
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private static final List<String> DRIVER_STACK = List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:675",
+            "sun.nio.ch.NioSocketImpl.read:346",
+            "org.postgresql.core.PGStream.receiveChar:467",
+            "org.postgresql.core.v3.QueryExecutorImpl.processResults:2145",
+            "com.zaxxer.hikari.pool.HikariProxyPreparedStatement.executeQuery:-1",
+            "com.ums.core.user_management_system.service.impl.UserServiceImpl.getUsersPage:150");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VirtualThreadPinningMonitor monitor(Duration threshold) {
+        return new VirtualThreadPinningMonitor(new PinningMonitorProperties(true, threshold, 3), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should classify by the JDBC driver or pool frames on the stack")
+    void classify_usesDriverThenPoolFrames() {
+        assertThat(VirtualThreadPinningMonitor.classify(DRIVER_STACK)).isEqualTo("jdbc");
+        assertThat(VirtualThreadPinningMonitor.classify(List.of(
+                "java.lang.Object.wait:-2", "com.zaxxer.hikari.util.ConcurrentBag.borrow:140"))).isEqualTo("pool");
+        assertThat(VirtualThreadPinningMonitor.classify(List.of("java.lang.Thread.sleep:509"))).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Should group events by the innermost non-JDK frames and aggregate their durations")
+    void record_aggregatesPerSite() {
+        // Given
+        VirtualThreadPinningMonitor monitor = monitor(Duration.ofMillis(20));
+
+        // When
+        monitor.record(DRIVER_STACK, 30_000_000);
+        monitor.record(DRIVER_STACK, 50_000_000);
+
+        // Then
+        List<PinningSiteDTO> sites = monitor.pinningSites();
+        assertThat(sites).hasSize(1);
+        PinningSiteDTO site = sites.get(0);
+        assertThat(site.getSource()).isEqualTo("jdbc");
+        assertThat(site.getFrames()).containsExactly(
+                "org.postgresql.core.PGStream.receiveChar:467",
+                "org.postgresql.core.v3.QueryExecutorImpl.processResults:2145",
+                "com.zaxxer.hikari.pool.HikariProxyPreparedStatement.executeQuery:-1");
+        assertThat(site.getCount()).isEqualTo(2);
+        assertThat(site.getTotalMillis()).isEqualTo(80.0);
+        assertThat(site.getMaxMillis()).isEqualTo(50.0);
+        assertThat(meterRegistry.get("ums.threads.virtual.pinned").tag("source", "jdbc").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report a virtual thread that sleeps inside a synchronized block")
+    void start_reportsRealPinning() throws Exception {
+        // Given
+        VirtualThreadPinningMonitor monitor = monitor(Duration.ofMillis(5));
+        monitor.start();
+        try {
+            // When: blocking while holding a monitor pins the virtual thread (JDK 21)
+            Object lock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            // Then: events are delivered with the stream's flush period (about a second)
+            long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+            while (monitor.pinningSites().isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+        } finally {
+            monitor.stop();
+        }
+        assertThat(monitor.pinningSites()).singleElement().satisfies(site -> {
+            assertThat(site.getSource()).isEqualTo("other");
+            assertThat(site.getFrames().get(0)).startsWith(VirtualThreadPinningMonitorTest.class.getName());
+            assertThat(site.getMaxMillis()).isGreaterThanOrEqualTo(40.0);
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.ums.core.user_management_system.timing;
+
+import com.ums.core.user_management_system.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ServerTimingFilter and the RequestTimings probes, using mock servlet objects.
+ */
+@DisplayName("ServerTimingFilter Tests")
+class ServerTimingFilterTest {
+
+    private static ServerTimingFilter filter(boolean header) {
+        return new ServerTimingFilter(new ServerTimingProperties(true, header, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Should report recorded phases, db count and total in the Server-Timing header")
+    void doFilter_writesServerTimingHeader() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            RequestTimings.markAuthenticated();
+            long start = RequestTimings.start();
+            RequestTimings.stop(TimingPhase.HASH, start);
+            RequestTimings.record(TimingPhase.DB, 2_000_000);
+            RequestTimings.record(TimingPhase.DB, 1_000_000);
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        };
+
+        // When
+        filter(true).doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), response, chain);
+
+        // Then
+        String header = response.getHeader(ServerTimingFilter.HEADER_NAME);
+        assertThat(header).startsWith("auth;dur=")
+                .contains(", hash;dur=", ", db;dur=3.0;count=2, serialize;dur=", ", total;dur=");
+        assertThat(header).doesNotContain("validate");
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Should write the header for responses without a body")
+    void doFilter_withoutBody_writesHeaderAtEnd() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(true).doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), response,
+                (req, res) -> RequestTimings.record(TimingPhase.DB, 1_000_000));
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER_NAME)).startsWith("db;dur=1.0;count=1, total;dur=");
+    }
+
+    @Test
+    @DisplayName("Should keep the breakdown out of the response when the header is disabled")
+    void doFilter_headerDisabled_writesNoHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(false).doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), response,
+                (req, res) -> res.getWriter().write("[]"));
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER_NAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not attribute work outside a timed request")
+    void probes_outsideRequest_areNoOps() throws Exception {
+        // Given: timing is switched on, and a request has already completed on this thread
+        AtomicReference<RequestTimings> during = new AtomicReference<>();
+        filter(true).doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(),
+                (req, res) -> during.set(RequestTimings.current()));
+
+        // When / Then
+        assertThat(during.get()).isNotNull();
+        assertThat(RequestTimings.current()).isNull();
+        assertThat(RequestTimings.start()).isZero();
+        RequestTimings.stop(TimingPhase.HASH, 0L); // Must not fail without a request
+    }
+}